@@ -0,0 +1,79 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.file.ConcurrentPropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ConcurrentReadBenchmark {
+
+    @Param({"100000"})
+    public int keys;
+
+    private Path directory;
+    private ConcurrentPropertiesFile propertiesFile;
+    private String[] integerKeys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next(int length) {
+            if(++this.index == length) {
+                this.index = 0;
+            }
+            return this.index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+        this.directory = Datasets.createDirectory();
+        Datasets.writeScalars(this.directory, "concurrent", this.keys);
+        this.propertiesFile = new ConcurrentPropertiesFile(Datasets.path(this.directory), "concurrent", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+        this.integerKeys = new String[this.keys / 2];
+        for(int i = 0; i < this.integerKeys.length; i++) {
+            this.integerKeys[i] = Datasets.integerKey(i * 2);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.propertiesFile.close();
+        Datasets.delete(this.directory);
+    }
+
+    @Benchmark
+    public int getInteger(Cursor cursor) {
+        return this.propertiesFile.getInteger(this.integerKeys[cursor.next(this.integerKeys.length)]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public int readWhileWriting(Cursor cursor) {
+        return this.propertiesFile.getInteger(this.integerKeys[cursor.next(this.integerKeys.length)]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void writeWhileReading(Cursor cursor) {
+        final int index = cursor.next(this.integerKeys.length);
+
+        this.propertiesFile.setInteger(this.integerKeys[index], index * 2);
+    }
+}
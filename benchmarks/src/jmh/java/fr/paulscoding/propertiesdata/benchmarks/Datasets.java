@@ -0,0 +1,65 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+final class Datasets {
+
+    static final String SEPARATOR = "=";
+
+    private Datasets() {
+    }
+
+    static Path createDirectory() throws IOException {
+        return Files.createTempDirectory("properties-data-benchmarks");
+    }
+
+    static String path(Path directory) {
+        return directory.toString() + File.separator;
+    }
+
+    static String integerKey(int index) {
+        return "key." + (index - index % 2);
+    }
+
+    static String stringKey(int index) {
+        return "key." + (index - index % 2 + 1);
+    }
+
+    static void writeScalars(Path directory, String name, int keys) throws IOException {
+        try(BufferedWriter writer = Files.newBufferedWriter(directory.resolve(name + PropertiesFile.FILE_EXTENSION), StandardCharsets.UTF_8)) {
+            for(int i = 0; i < keys; i++) {
+                writer.write("key." + i + SEPARATOR + (i % 2 == 0 ? String.valueOf(i) : "\"value-" + i + "\""));
+                writer.newLine();
+            }
+        }
+    }
+
+    static void writeIntegerList(Path directory, String name, String key, int length) throws IOException {
+        try(BufferedWriter writer = Files.newBufferedWriter(directory.resolve(name + PropertiesFile.FILE_EXTENSION), StandardCharsets.UTF_8)) {
+            writer.write(key + SEPARATOR + "[");
+            for(int i = 0; i < length; i++) {
+                if(i > 0) {
+                    writer.write(", ");
+                }
+                writer.write(String.valueOf(i));
+            }
+            writer.write("]");
+            writer.newLine();
+        }
+    }
+
+    static void delete(Path directory) throws IOException {
+        try(Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
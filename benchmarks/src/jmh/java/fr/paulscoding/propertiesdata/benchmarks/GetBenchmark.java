@@ -0,0 +1,116 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GetBenchmark {
+
+    private static final int COLD_BATCH = 10000;
+
+    @Param({"100000"})
+    public int keys;
+
+    private Path directory;
+    private PropertiesFile propertiesFile;
+    private String[] integerKeys, stringKeys, missingKeys;
+    private int cursor;
+
+    @State(Scope.Thread)
+    public static class ColdFile {
+
+        private PropertiesFile propertiesFile;
+        private int index;
+
+        @Setup(Level.Iteration)
+        public void load(GetBenchmark benchmark) {
+            this.propertiesFile = benchmark.load();
+            this.index = 0;
+        }
+
+        String next(String[] keys) {
+            return keys[this.index++ % keys.length];
+        }
+    }
+
+    private PropertiesFile load() {
+        return new PropertiesFile(Datasets.path(this.directory), "get", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+        this.directory = Datasets.createDirectory();
+        Datasets.writeScalars(this.directory, "get", this.keys);
+        this.propertiesFile = this.load();
+        this.integerKeys = new String[this.keys / 2];
+        this.stringKeys = new String[this.keys / 2];
+        this.missingKeys = new String[this.keys / 2];
+        for(int i = 0; i < this.keys / 2; i++) {
+            this.integerKeys[i] = Datasets.integerKey(i * 2);
+            this.stringKeys[i] = Datasets.stringKey(i * 2);
+            this.missingKeys[i] = "missing." + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Datasets.delete(this.directory);
+    }
+
+    private int next() {
+        if(++this.cursor == this.integerKeys.length) {
+            this.cursor = 0;
+        }
+        return this.cursor;
+    }
+
+    @Benchmark
+    public String getStringHot() {
+        return this.propertiesFile.getString(this.stringKeys[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = COLD_BATCH)
+    @Measurement(iterations = 10, batchSize = COLD_BATCH)
+    public String getStringCold(ColdFile coldFile) {
+        return coldFile.propertiesFile.getString(coldFile.next(this.stringKeys));
+    }
+
+    @Benchmark
+    public int getIntegerHot() {
+        return this.propertiesFile.getInteger(this.integerKeys[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = COLD_BATCH)
+    @Measurement(iterations = 10, batchSize = COLD_BATCH)
+    public int getIntegerCold(ColdFile coldFile) {
+        return coldFile.propertiesFile.getInteger(coldFile.next(this.integerKeys));
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return this.propertiesFile.contains(this.integerKeys[this.next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return this.propertiesFile.contains(this.missingKeys[this.next()]);
+    }
+}
@@ -0,0 +1,93 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.file.AbstractProperties;
+import fr.paulscoding.propertiesdata.file.MappedPropertiesFile;
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListBenchmark {
+
+    private static final String KEY = "list";
+
+    @Param({"10", "1000", "100000"})
+    public int length;
+
+    private Path directory;
+    private PropertiesFile propertiesFile;
+    private MappedPropertiesFile mappedPropertiesFile;
+    private UncachedProperties uncachedProperties;
+    private int[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+        this.directory = Datasets.createDirectory();
+        Datasets.writeIntegerList(this.directory, "list", KEY, this.length);
+        this.propertiesFile = new PropertiesFile(Datasets.path(this.directory), "list", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+        this.mappedPropertiesFile = new MappedPropertiesFile(Datasets.path(this.directory), "list", KeyValueSeparator.EQUAL).load();
+        this.uncachedProperties = new UncachedProperties(this.propertiesFile.entries().filter(entry -> entry.getKey().equals(KEY)).findFirst().get().getValue());
+        this.buffer = new int[this.length];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Datasets.delete(this.directory);
+    }
+
+    @Benchmark
+    public List<Integer> getIntegerList() {
+        return this.uncachedProperties.getIntegerList(KEY);
+    }
+
+    @Benchmark
+    public List<Integer> getIntegerListCached() {
+        return this.propertiesFile.getIntegerList(KEY);
+    }
+
+    @Benchmark
+    public int[] getIntegerArray() {
+        return this.propertiesFile.getIntegerArray(KEY);
+    }
+
+    @Benchmark
+    public int fillIntegerArray() {
+        return this.propertiesFile.fillIntegerArray(KEY, this.buffer);
+    }
+
+    @Benchmark
+    public int fillIntegerArrayMapped() {
+        return this.mappedPropertiesFile.fillIntegerArray(KEY, this.buffer);
+    }
+
+    private static final class UncachedProperties extends AbstractProperties {
+
+        private final String value;
+
+        private UncachedProperties(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public KeyValueSeparator getKeyValueSeparator() {
+            return KeyValueSeparator.EQUAL;
+        }
+
+        @Override
+        protected String getRawValue(String key) {
+            return KEY.equals(key) ? this.value : null;
+        }
+    }
+}
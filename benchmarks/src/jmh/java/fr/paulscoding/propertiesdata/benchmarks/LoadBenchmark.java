@@ -0,0 +1,54 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.file.MappedPropertiesFile;
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoadBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int keys;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+        this.directory = Datasets.createDirectory();
+        Datasets.writeScalars(this.directory, "load", this.keys);
+        Datasets.writeScalars(this.directory, "snapshot", this.keys);
+        new PropertiesFile(Datasets.path(this.directory), "snapshot", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load().exportSnapshot();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Datasets.delete(this.directory);
+    }
+
+    @Benchmark
+    public PropertiesFile load() {
+        return new PropertiesFile(Datasets.path(this.directory), "load", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    @Benchmark
+    public PropertiesFile loadSnapshot() {
+        return new PropertiesFile(Datasets.path(this.directory), "snapshot", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    @Benchmark
+    public MappedPropertiesFile loadMapped() {
+        return new MappedPropertiesFile(Datasets.path(this.directory), "load", KeyValueSeparator.EQUAL).load();
+    }
+}
@@ -0,0 +1,59 @@
+package fr.paulscoding.propertiesdata.benchmarks;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SetBenchmark {
+
+    @Param({"1000", "100000"})
+    public int keys;
+
+    private Path directory;
+    private PropertiesFile propertiesFile;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+        this.directory = Datasets.createDirectory();
+        Datasets.writeScalars(this.directory, "set", this.keys);
+        this.propertiesFile = new PropertiesFile(Datasets.path(this.directory), "set", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.propertiesFile.close();
+        Datasets.delete(this.directory);
+    }
+
+    @Benchmark
+    public void setString() {
+        final int index = this.counter++;
+
+        this.propertiesFile.setString(Datasets.stringKey(index % this.keys), "updated-" + index);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void setStringBatch() {
+        this.propertiesFile.batch(editor -> {
+            for(int i = 0; i < 100; i++) {
+                final int index = this.counter++;
+
+                editor.setString(Datasets.stringKey(index % this.keys), "updated-" + index);
+            }
+        });
+    }
+}
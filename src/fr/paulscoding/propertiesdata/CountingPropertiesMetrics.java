@@ -0,0 +1,199 @@
+package fr.paulscoding.propertiesdata;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CountingPropertiesMetrics implements PropertiesMetrics {
+
+    private final Map<String, FileMetrics> files;
+
+    public CountingPropertiesMetrics() {
+        this.files = new ConcurrentHashMap<>();
+    }
+
+    public FileMetrics getFileMetrics(String file) {
+        return this.files.computeIfAbsent(file, key -> new FileMetrics());
+    }
+
+    public Map<String, FileMetrics> getFiles() {
+        return Collections.unmodifiableMap(this.files);
+    }
+
+    public void reset() {
+        this.files.clear();
+    }
+
+    @Override
+    public void onLoad(String file, long nanos, long bytesRead) {
+        final FileMetrics fileMetrics = this.getFileMetrics(file);
+
+        fileMetrics.loads.increment();
+        fileMetrics.loadNanos.add(nanos);
+        fileMetrics.bytesRead.add(bytesRead);
+    }
+
+    @Override
+    public void onParse(String file, long nanos, int entries) {
+        final FileMetrics fileMetrics = this.getFileMetrics(file);
+
+        fileMetrics.parseNanos.add(nanos);
+        fileMetrics.parsedEntries.add(entries);
+    }
+
+    @Override
+    public void onGet(String file, boolean hit) {
+        final FileMetrics fileMetrics = this.getFileMetrics(file);
+
+        if(hit) {
+            fileMetrics.hits.increment();
+        } else {
+            fileMetrics.misses.increment();
+        }
+    }
+
+    @Override
+    public void onWrite(String file, long nanos, long bytesWritten) {
+        final FileMetrics fileMetrics = this.getFileMetrics(file);
+
+        fileMetrics.bytesWritten.add(bytesWritten);
+        fileMetrics.writeLatency.record(nanos);
+    }
+
+    @Override
+    public void onFlush(String file, long nanos) {
+        this.getFileMetrics(file).flushLatency.record(nanos);
+    }
+
+    @Override
+    public void onReload(String file, int changes) {
+        final FileMetrics fileMetrics = this.getFileMetrics(file);
+
+        fileMetrics.reloads.increment();
+        fileMetrics.reloadedChanges.add(changes);
+    }
+
+    public static final class FileMetrics {
+
+        private final LongAdder loads, loadNanos, parseNanos, parsedEntries, bytesRead, bytesWritten, hits, misses, reloads, reloadedChanges;
+        private final Histogram writeLatency, flushLatency;
+
+        private FileMetrics() {
+            this.loads = new LongAdder();
+            this.loadNanos = new LongAdder();
+            this.parseNanos = new LongAdder();
+            this.parsedEntries = new LongAdder();
+            this.bytesRead = new LongAdder();
+            this.bytesWritten = new LongAdder();
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.reloads = new LongAdder();
+            this.reloadedChanges = new LongAdder();
+            this.writeLatency = new Histogram();
+            this.flushLatency = new Histogram();
+        }
+
+        public long getLoads() {
+            return this.loads.sum();
+        }
+
+        public long getLoadNanos() {
+            return this.loadNanos.sum();
+        }
+
+        public long getParseNanos() {
+            return this.parseNanos.sum();
+        }
+
+        public long getParsedEntries() {
+            return this.parsedEntries.sum();
+        }
+
+        public long getBytesRead() {
+            return this.bytesRead.sum();
+        }
+
+        public long getBytesWritten() {
+            return this.bytesWritten.sum();
+        }
+
+        public long getHits() {
+            return this.hits.sum();
+        }
+
+        public long getMisses() {
+            return this.misses.sum();
+        }
+
+        public long getReloads() {
+            return this.reloads.sum();
+        }
+
+        public long getReloadedChanges() {
+            return this.reloadedChanges.sum();
+        }
+
+        public Histogram getWriteLatency() {
+            return writeLatency;
+        }
+
+        public Histogram getFlushLatency() {
+            return flushLatency;
+        }
+    }
+
+    public static final class Histogram {
+
+        private final LongAdder[] buckets;
+        private final LongAdder count, total;
+
+        private Histogram() {
+            this.buckets = new LongAdder[Long.SIZE];
+            for(int i = 0; i < this.buckets.length; i++) {
+                this.buckets[i] = new LongAdder();
+            }
+            this.count = new LongAdder();
+            this.total = new LongAdder();
+        }
+
+        private void record(long nanos) {
+            final long value = Math.max(nanos, 1L);
+
+            this.buckets[Long.SIZE - 1 - Long.numberOfLeadingZeros(value)].increment();
+            this.count.increment();
+            this.total.add(value);
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getTotalNanos() {
+            return this.total.sum();
+        }
+
+        public long getPercentileNanos(double percentile) {
+            if(percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The percentile must be between 0 and 100.");
+            }
+            final long[] counts = new long[this.buckets.length];
+            long count = 0;
+
+            for(int i = 0; i < counts.length; i++) {
+                counts[i] = this.buckets[i].sum();
+                count += counts[i];
+            }
+            final long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(counts[i] > 0 && seen >= rank) {
+                    return i == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
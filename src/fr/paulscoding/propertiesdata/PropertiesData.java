@@ -3,6 +3,8 @@ package fr.paulscoding.propertiesdata;
 public final class PropertiesData {
 
     private static String LOGS_PREFIX = "";
+    private static PropertiesLogger LOGGER = PropertiesLogger.STANDARD;
+    private static PropertiesMetrics METRICS = PropertiesMetrics.NONE;
 
     private PropertiesData() {
     }
@@ -14,4 +16,28 @@ public final class PropertiesData {
     public static void setLogsPrefix(String logsPrefix) {
         LOGS_PREFIX = logsPrefix;
     }
+
+    public static PropertiesLogger getLogger() {
+        return LOGGER;
+    }
+
+    public static void setLogger(PropertiesLogger logger) {
+        LOGGER = logger == null ? PropertiesLogger.NONE : logger;
+    }
+
+    public static PropertiesMetrics getMetrics() {
+        return METRICS;
+    }
+
+    public static void setMetrics(PropertiesMetrics metrics) {
+        METRICS = metrics == null ? PropertiesMetrics.NONE : metrics;
+    }
+
+    public static void log(String message) {
+        LOGGER.log(LOGS_PREFIX + message, null);
+    }
+
+    public static void log(Throwable throwable) {
+        LOGGER.log(null, throwable);
+    }
 }
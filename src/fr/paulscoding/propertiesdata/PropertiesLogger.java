@@ -0,0 +1,18 @@
+package fr.paulscoding.propertiesdata;
+
+@FunctionalInterface
+public interface PropertiesLogger {
+
+    PropertiesLogger STANDARD = (message, throwable) -> {
+        if(message != null) {
+            System.out.println(message);
+        }
+        if(throwable != null) {
+            throwable.printStackTrace();
+        }
+    };
+    PropertiesLogger NONE = (message, throwable) -> {
+    };
+
+    void log(String message, Throwable throwable);
+}
@@ -0,0 +1,25 @@
+package fr.paulscoding.propertiesdata;
+
+public interface PropertiesMetrics {
+
+    PropertiesMetrics NONE = new PropertiesMetrics() {
+    };
+
+    default void onLoad(String file, long nanos, long bytesRead) {
+    }
+
+    default void onParse(String file, long nanos, int entries) {
+    }
+
+    default void onGet(String file, boolean hit) {
+    }
+
+    default void onWrite(String file, long nanos, long bytesWritten) {
+    }
+
+    default void onFlush(String file, long nanos) {
+    }
+
+    default void onReload(String file, int changes) {
+    }
+}
@@ -0,0 +1,323 @@
+package fr.paulscoding.propertiesdata;
+
+import fr.paulscoding.propertiesdata.file.ConcurrentPropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public final class PropertiesPool implements Closeable {
+
+    private final String path;
+    private final StandardFileCreationType standardFileCreationType;
+    private final KeyValueSeparator keyValueSeparator;
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final Map<String, Handle> handles, closing;
+    private final LongAdder hits, misses, evictions;
+    private long weight;
+    private boolean closed;
+
+    public PropertiesPool(String path, StandardFileCreationType standardFileCreationType, KeyValueSeparator keyValueSeparator, int maximumSize) {
+        this(path, standardFileCreationType, keyValueSeparator, maximumSize, Long.MAX_VALUE);
+    }
+
+    public PropertiesPool(String path, StandardFileCreationType standardFileCreationType, KeyValueSeparator keyValueSeparator, int maximumSize, long maximumWeight) {
+        if(maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The maximum size and weight must be positive.");
+        }
+        this.path = path;
+        this.standardFileCreationType = standardFileCreationType;
+        this.keyValueSeparator = keyValueSeparator;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.handles = new LinkedHashMap<>(16, 0.75f, true);
+        this.closing = new HashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public double getHitRate() {
+        final long hits = this.hits.sum();
+        final long requests = hits + this.misses.sum();
+
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+
+    public int size() {
+        synchronized(this.handles) {
+            return this.handles.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized(this.handles) {
+            return this.weight;
+        }
+    }
+
+    public boolean isResident(String name) {
+        synchronized(this.handles) {
+            return this.handles.containsKey(name);
+        }
+    }
+
+    public Lease get(String name) {
+        return new Lease(this.pin(name));
+    }
+
+    public <T> T apply(String name, Function<ConcurrentPropertiesFile, T> function) {
+        try(Lease lease = this.get(name)) {
+            return function.apply(lease.getPropertiesFile());
+        }
+    }
+
+    public void accept(String name, Consumer<ConcurrentPropertiesFile> consumer) {
+        this.apply(name, propertiesFile -> {
+            consumer.accept(propertiesFile);
+            return null;
+        });
+    }
+
+    private Handle pin(String name) {
+        final List<Handle> evicted;
+        Handle handle;
+
+        synchronized(this.handles) {
+            if(this.closed) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The pool " + this.path + " is closed.");
+            }
+            handle = this.handles.get(name);
+            if(handle != null) {
+                this.hits.increment();
+            } else {
+                this.misses.increment();
+                handle = new Handle(name, this.closing.get(name));
+                this.handles.put(name, handle);
+            }
+            handle.pins++;
+            evicted = this.evict();
+        }
+        this.close(evicted);
+        try {
+            this.load(handle);
+        } catch(RuntimeException e) {
+            this.release(handle);
+            throw e;
+        }
+        return handle;
+    }
+
+    private void load(Handle handle) {
+        synchronized(handle) {
+            if(handle.propertiesFile != null) {
+                return;
+            }
+            if(handle.previous != null) {
+                handle.previous.closed.join();
+                handle.previous = null;
+            }
+            handle.propertiesFile = new ConcurrentPropertiesFile(this.path, handle.name, this.standardFileCreationType, StandardDirectoryCreationType.IGNORE, this.keyValueSeparator).load();
+        }
+    }
+
+    private void release(Handle handle) {
+        final List<Handle> evicted;
+
+        synchronized(this.handles) {
+            handle.pins--;
+            if(handle.retired || handle.propertiesFile == null) {
+                evicted = new ArrayList<>(1);
+                if(handle.pins == 0) {
+                    this.retire(handle, evicted);
+                }
+            } else {
+                this.reweigh(handle);
+                evicted = this.evict();
+            }
+        }
+        this.close(evicted);
+    }
+
+    private void reweigh(Handle handle) {
+        final int weight = handle.propertiesFile.getLines().size();
+
+        this.weight += weight - handle.weight;
+        handle.weight = weight;
+    }
+
+    private List<Handle> evict() {
+        final List<Handle> evicted = new ArrayList<>();
+        final Iterator<Handle> iterator = this.handles.values().iterator();
+
+        while((this.handles.size() > this.maximumSize || this.weight > this.maximumWeight) && iterator.hasNext()) {
+            final Handle handle = iterator.next();
+
+            if(handle.pins > 0) {
+                continue;
+            }
+            iterator.remove();
+            this.retire(handle, evicted);
+            this.evictions.increment();
+        }
+        return evicted;
+    }
+
+    private void retire(Handle handle, List<Handle> retired) {
+        if(!handle.retired) {
+            handle.retired = true;
+            this.handles.remove(handle.name, handle);
+            this.weight -= handle.weight;
+        }
+        if(handle.pins == 0) {
+            this.closing.put(handle.name, handle);
+            retired.add(handle);
+        }
+    }
+
+    private void close(List<Handle> retired) {
+        for(Handle handle : retired) {
+            try {
+                synchronized(handle) {
+                    if(handle.propertiesFile != null) {
+                        handle.propertiesFile.close();
+                    }
+                }
+            } finally {
+                synchronized(this.handles) {
+                    this.closing.remove(handle.name, handle);
+                }
+                handle.closed.complete(null);
+            }
+        }
+    }
+
+    public void flush() {
+        final List<Handle> handles = new ArrayList<>();
+
+        synchronized(this.handles) {
+            for(Handle handle : this.handles.values()) {
+                if(handle.propertiesFile != null) {
+                    handle.pins++;
+                    handles.add(handle);
+                }
+            }
+        }
+        for(Handle handle : handles) {
+            try {
+                handle.propertiesFile.flush();
+            } finally {
+                this.release(handle);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        final List<Handle> invalidated = new ArrayList<>();
+
+        synchronized(this.handles) {
+            for(Handle handle : new ArrayList<>(this.handles.values())) {
+                if(handle.pins == 0) {
+                    this.retire(handle, invalidated);
+                }
+            }
+        }
+        this.close(invalidated);
+    }
+
+    @Override
+    public void close() {
+        final List<Handle> closed = new ArrayList<>();
+
+        synchronized(this.handles) {
+            this.closed = true;
+            for(Handle handle : new ArrayList<>(this.handles.values())) {
+                this.retire(handle, closed);
+            }
+        }
+        this.close(closed);
+    }
+
+    public final class Lease implements Closeable {
+
+        private final Handle handle;
+        private boolean released;
+
+        private Lease(Handle handle) {
+            this.handle = handle;
+        }
+
+        public ConcurrentPropertiesFile getPropertiesFile() {
+            synchronized(this) {
+                if(this.released) {
+                    throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "This lease of " + this.handle.name + " has been released.");
+                }
+            }
+            return this.handle.propertiesFile;
+        }
+
+        @Override
+        public void close() {
+            synchronized(this) {
+                if(this.released) {
+                    return;
+                }
+                this.released = true;
+            }
+            PropertiesPool.this.release(this.handle);
+        }
+    }
+
+    private static final class Handle {
+
+        private final String name;
+        private final CompletableFuture<Void> closed;
+        private volatile ConcurrentPropertiesFile propertiesFile;
+        private Handle previous;
+        private int weight;
+        private int pins;
+        private boolean retired;
+
+        private Handle(String name, Handle previous) {
+            this.name = name;
+            this.closed = new CompletableFuture<>();
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package fr.paulscoding.propertiesdata;
+
+import fr.paulscoding.propertiesdata.file.ConcurrentPropertiesFile;
+import fr.paulscoding.propertiesdata.file.PropertiesFile;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+public final class PropertiesRegistry implements Closeable {
+
+    private final String path;
+    private final StandardFileCreationType standardFileCreationType;
+    private final KeyValueSeparator keyValueSeparator;
+    private final ExecutorService executor;
+    private final Map<String, List<ConcurrentPropertiesFile>> owners;
+    private volatile Map<String, ConcurrentPropertiesFile> files;
+    private volatile int duplicates;
+
+    private static final Comparator<PropertiesFile> ORDER = Comparator.comparing(PropertiesFile::getName);
+
+    public PropertiesRegistry(String path, StandardFileCreationType standardFileCreationType, KeyValueSeparator keyValueSeparator) {
+        this(path, standardFileCreationType, keyValueSeparator, Runtime.getRuntime().availableProcessors());
+    }
+
+    public PropertiesRegistry(String path, StandardFileCreationType standardFileCreationType, KeyValueSeparator keyValueSeparator, int parallelism) {
+        if(parallelism <= 0) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The parallelism must be positive.");
+        }
+        final AtomicInteger threads = new AtomicInteger();
+
+        this.path = path;
+        this.standardFileCreationType = standardFileCreationType;
+        this.keyValueSeparator = keyValueSeparator;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "PropertiesData-Registry-" + threads.incrementAndGet());
+
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.owners = new ConcurrentHashMap<>();
+        this.files = Collections.emptyMap();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public StandardFileCreationType getStandardFileCreationType() {
+        return standardFileCreationType;
+    }
+
+    public KeyValueSeparator getKeyValueSeparator() {
+        return keyValueSeparator;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public PropertiesRegistry loadAll() {
+        final File[] candidates = new File(this.path).listFiles((dir, name) -> name.endsWith(PropertiesFile.FILE_EXTENSION) && !name.startsWith("copy-"));
+
+        if(candidates == null) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The directory " + this.path + " doesn't exist.");
+        }
+        Arrays.sort(candidates);
+
+        final Map<Long, Integer> lengthCounts = new HashMap<>();
+        final long[] lengths = new long[candidates.length];
+        final Map<File, CompletableFuture<Content>> contents = new HashMap<>();
+        final Map<Object, List<File>> groups = new LinkedHashMap<>();
+        final List<CompletableFuture<ConcurrentPropertiesFile>> loadings = new ArrayList<>(candidates.length);
+        final Map<String, ConcurrentPropertiesFile> files = new LinkedHashMap<>();
+        int duplicates = 0;
+
+        for(int i = 0; i < candidates.length; i++) {
+            lengths[i] = candidates[i].length();
+            lengthCounts.merge(lengths[i], 1, Integer::sum);
+        }
+        for(int i = 0; i < candidates.length; i++) {
+            final File candidate = candidates[i];
+
+            if(lengthCounts.get(lengths[i]) > 1) {
+                contents.put(candidate, CompletableFuture.supplyAsync(() -> Content.read(candidate), this.executor));
+            }
+        }
+        for(File candidate : candidates) {
+            final CompletableFuture<Content> content = contents.get(candidate);
+            final Object key = content == null || content.join() == null ? candidate : content.join();
+
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(candidate);
+        }
+        final List<List<File>> fileGroups = new ArrayList<>(groups.values());
+
+        groups.clear();
+        contents.clear();
+        for(List<File> group : fileGroups) {
+            final CompletableFuture<ConcurrentPropertiesFile> representative = CompletableFuture.supplyAsync(() -> this.create(group.get(0)).load(), this.executor);
+
+            loadings.add(representative);
+            for(File duplicate : group.subList(1, group.size())) {
+                loadings.add(representative.thenApplyAsync(identical -> this.create(duplicate).load(identical), this.executor));
+                duplicates++;
+            }
+        }
+        for(CompletableFuture<ConcurrentPropertiesFile> loading : loadings) {
+            final ConcurrentPropertiesFile propertiesFile = loading.join();
+
+            files.put(getBaseName(propertiesFile), propertiesFile);
+        }
+        this.register(files);
+        this.duplicates = duplicates;
+        PropertiesData.log(files.size() + " files have been loaded from " + this.path + " (" + duplicates + " duplicates).");
+        return this;
+    }
+
+    private ConcurrentPropertiesFile create(File file) {
+        return new ConcurrentPropertiesFile(this.path, getBaseName(file.getName()), this.standardFileCreationType, StandardDirectoryCreationType.IGNORE, this.keyValueSeparator);
+    }
+
+    private static String getBaseName(String fileName) {
+        return fileName.substring(0, fileName.length() - PropertiesFile.FILE_EXTENSION.length());
+    }
+
+    private static String getBaseName(PropertiesFile propertiesFile) {
+        return getBaseName(propertiesFile.getName());
+    }
+
+    private void register(Map<String, ConcurrentPropertiesFile> files) {
+        final Map<String, List<ConcurrentPropertiesFile>> owners = new LinkedHashMap<>();
+
+        for(ConcurrentPropertiesFile propertiesFile : files.values()) {
+            for(String key : propertiesFile.keys()) {
+                owners.computeIfAbsent(key, k -> new ArrayList<>(1)).add(propertiesFile);
+            }
+            propertiesFile.addChangeListener((key, oldValue, newValue) -> this.onChange(propertiesFile, key, oldValue, newValue));
+        }
+        final Map<String, ConcurrentPropertiesFile> previousFiles = this.files;
+
+        this.files = Collections.unmodifiableMap(files);
+        this.owners.clear();
+        for(Map.Entry<String, List<ConcurrentPropertiesFile>> owner : owners.entrySet()) {
+            owner.getValue().sort(ORDER);
+            this.owners.put(owner.getKey(), Collections.unmodifiableList(owner.getValue()));
+        }
+        for(ConcurrentPropertiesFile propertiesFile : previousFiles.values()) {
+            propertiesFile.close();
+        }
+    }
+
+    private void onChange(ConcurrentPropertiesFile propertiesFile, String key, String oldValue, String newValue) {
+        if(this.files.get(getBaseName(propertiesFile)) != propertiesFile || (oldValue == null) == (newValue == null)) {
+            return;
+        }
+        this.owners.compute(key, (k, owners) -> {
+            final List<ConcurrentPropertiesFile> newOwners = owners == null ? new ArrayList<>(1) : new ArrayList<>(owners);
+
+            if(newValue == null) {
+                newOwners.remove(propertiesFile);
+            } else if(!newOwners.contains(propertiesFile)) {
+                newOwners.add(propertiesFile);
+                newOwners.sort(ORDER);
+            }
+            return newOwners.isEmpty() ? null : Collections.unmodifiableList(newOwners);
+        });
+    }
+
+    public ConcurrentPropertiesFile get(String name) {
+        return this.files.get(name);
+    }
+
+    public Collection<ConcurrentPropertiesFile> getFiles() {
+        return this.files.values();
+    }
+
+    public int size() {
+        return this.files.size();
+    }
+
+    public ConcurrentPropertiesFile find(String key) {
+        final List<ConcurrentPropertiesFile> owners = this.owners.get(key);
+
+        return owners == null ? null : owners.get(0);
+    }
+
+    public List<ConcurrentPropertiesFile> findAll(String key) {
+        final List<ConcurrentPropertiesFile> owners = this.owners.get(key);
+
+        return owners == null ? Collections.emptyList() : owners;
+    }
+
+    @Override
+    public void close() {
+        for(ConcurrentPropertiesFile propertiesFile : this.files.values()) {
+            propertiesFile.close();
+        }
+        this.executor.shutdown();
+    }
+
+    private static final class Content {
+
+        private final byte[] bytes;
+        private final long checksum;
+
+        private Content(byte[] bytes, long checksum) {
+            this.bytes = bytes;
+            this.checksum = checksum;
+        }
+
+        private static Content read(File file) {
+            if(new File(file.getPath() + ".journal").exists()) {
+                return null;
+            }
+            try {
+                final byte[] bytes = Files.readAllBytes(file.toPath());
+                final CRC32 crc = new CRC32();
+
+                crc.update(bytes, 0, bytes.length);
+                return new Content(bytes, crc.getValue());
+            } catch(IOException e) {
+                PropertiesData.log(e);
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Content)) {
+                return false;
+            }
+            final Content content = (Content) o;
+
+            return this.checksum == content.checksum && Arrays.equals(this.bytes, content.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.checksum);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public abstract class AbstractProperties {
+
+    private static final Function<String, List<String>> STRING_LIST_PARSER = new ListParser<>(ValueType.STRING_LIST, true, Function.identity());
+    private static final Function<String, List<Integer>> INTEGER_LIST_PARSER = new ListParser<>(ValueType.INTEGER_LIST, false, Integer::parseInt);
+    private static final Function<String, List<Double>> DOUBLE_LIST_PARSER = new ListParser<>(ValueType.DOUBLE_LIST, false, Double::parseDouble);
+    private static final Function<String, List<Float>> FLOAT_LIST_PARSER = new ListParser<>(ValueType.DOUBLE_LIST, false, Float::parseFloat);
+    private static final Function<String, List<Boolean>> BOOLEAN_LIST_PARSER = new ListParser<>(ValueType.BOOLEAN_LIST, false, Boolean::parseBoolean);
+
+    public abstract KeyValueSeparator getKeyValueSeparator();
+
+    protected abstract String getRawValue(String key);
+
+    protected CharSequence getRawSequence(String key) {
+        return this.getRawValue(key);
+    }
+
+    protected ValueType getRawType(String key) {
+        final String value = this.getRawValue(key);
+
+        return value == null ? null : PropertiesEntry.detectType(value);
+    }
+
+    void throwKeyExceptions(String key) {
+        if(key.equals("")) {
+            throw new IllegalArgumentException("You must set a valid String key");
+        }
+        else if(key.startsWith(" ")) {
+            throw new IllegalArgumentException("Your String key can't starts with ' '.");
+        }
+    }
+
+    boolean isValidKey(String key) {
+        return !key.equals("") && !key.startsWith(" ");
+    }
+
+    public boolean contains(String key) {
+        return this.isValidKey(key) && this.getRawValue(key) != null;
+    }
+
+    public ValueType typeOf(String key) {
+        this.throwKeyExceptions(key);
+        return this.getRawType(key);
+    }
+
+    public boolean containsAs(String key, ValueType type) {
+        if(!this.isValidKey(key)) {
+            return false;
+        }
+        final ValueType valueType = this.getRawType(key);
+
+        return valueType != null && valueType.isReadableAs(type);
+    }
+
+    public boolean containsAs(String key, Class<?> type) {
+        if(!this.isValidKey(key)) {
+            return false;
+        }
+        final ValueType valueType = this.getRawType(key);
+
+        return valueType != null && valueType.isReadableAs(type);
+    }
+
+    String getValue(String key) {
+        this.throwKeyExceptions(key);
+        final String value = this.getRawValue(key);
+
+        if(value == null) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.getKeyValueSeparator().getSeparator() + "'.");
+        }
+        return value;
+    }
+
+    private String getStringWithQuotationMarksCondition(String key, boolean withQuotationMarks) {
+        final String value = this.getValue(key);
+
+        if(withQuotationMarks) {
+            if(value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                return value.substring(1, value.length() - 1);
+            } else {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your value must include \" at end and the beginning.");
+            }
+        }
+        return value;
+    }
+
+    public String getString(String key) {
+        return this.getStringWithQuotationMarksCondition(key, true);
+    }
+
+    private CharSequence getSequence(String key) {
+        this.throwKeyExceptions(key);
+        final CharSequence value = this.getRawSequence(key);
+
+        if(value == null) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.getKeyValueSeparator().getSeparator() + "'.");
+        }
+        return value;
+    }
+
+    public int getInteger(String key) {
+        final CharSequence value = this.getSequence(key);
+
+        return NumberParser.parseInt(value, 0, value.length());
+    }
+
+    public long getLong(String key) {
+        final CharSequence value = this.getSequence(key);
+
+        return NumberParser.parseLong(value, 0, value.length());
+    }
+
+    public double getDouble(String key) {
+        final CharSequence value = this.getSequence(key);
+
+        return NumberParser.parseDouble(value, 0, value.length());
+    }
+
+    public float getFloat(String key) {
+        return Float.parseFloat(this.getStringWithQuotationMarksCondition(key, false));
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(this.getStringWithQuotationMarksCondition(key, false));
+    }
+
+    public int[] getIntegerArray(String key) {
+        final CharSequence value = this.getSequence(key);
+        final PropertiesListSegment segment = this.getListSegment(key, value, ValueType.INTEGER_LIST);
+        final int[] array = new int[segment == null ? NumberParser.countElements(value) : segment.size()];
+
+        this.fillIntegerArray(value, segment, array);
+        return array;
+    }
+
+    public int fillIntegerArray(String key, int[] destination) {
+        final CharSequence value = this.getSequence(key);
+
+        return this.fillIntegerArray(value, this.getListSegment(key, value, ValueType.INTEGER_LIST), destination);
+    }
+
+    private int fillIntegerArray(CharSequence value, PropertiesListSegment segment, int[] destination) {
+        final int count = segment == null ? NumberParser.countElements(value) : segment.size();
+
+        if(count > destination.length) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your array is too small: " + count + " elements needed.");
+        }
+        if(segment != null) {
+            for(int i = 0; i < count; i++) {
+                destination[i] = Integer.parseInt(segment.get(i));
+            }
+            return count;
+        }
+        int start = 1;
+
+        for(int i = 0; i < count; i++) {
+            final int end = NumberParser.nextElementEnd(value, start);
+
+            destination[i] = NumberParser.parseInt(value, start, end);
+            start = end + 2;
+        }
+        return count;
+    }
+
+    public long[] getLongArray(String key) {
+        final CharSequence value = this.getSequence(key);
+        final PropertiesListSegment segment = this.getListSegment(key, value, ValueType.INTEGER_LIST);
+        final long[] array = new long[segment == null ? NumberParser.countElements(value) : segment.size()];
+
+        this.fillLongArray(value, segment, array);
+        return array;
+    }
+
+    public int fillLongArray(String key, long[] destination) {
+        final CharSequence value = this.getSequence(key);
+
+        return this.fillLongArray(value, this.getListSegment(key, value, ValueType.INTEGER_LIST), destination);
+    }
+
+    private int fillLongArray(CharSequence value, PropertiesListSegment segment, long[] destination) {
+        final int count = segment == null ? NumberParser.countElements(value) : segment.size();
+
+        if(count > destination.length) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your array is too small: " + count + " elements needed.");
+        }
+        if(segment != null) {
+            for(int i = 0; i < count; i++) {
+                destination[i] = Long.parseLong(segment.get(i));
+            }
+            return count;
+        }
+        int start = 1;
+
+        for(int i = 0; i < count; i++) {
+            final int end = NumberParser.nextElementEnd(value, start);
+
+            destination[i] = NumberParser.parseLong(value, start, end);
+            start = end + 2;
+        }
+        return count;
+    }
+
+    public double[] getDoubleArray(String key) {
+        final CharSequence value = this.getSequence(key);
+        final PropertiesListSegment segment = this.getListSegment(key, value, ValueType.DOUBLE_LIST);
+        final double[] array = new double[segment == null ? NumberParser.countElements(value) : segment.size()];
+
+        this.fillDoubleArray(value, segment, array);
+        return array;
+    }
+
+    public int fillDoubleArray(String key, double[] destination) {
+        final CharSequence value = this.getSequence(key);
+
+        return this.fillDoubleArray(value, this.getListSegment(key, value, ValueType.DOUBLE_LIST), destination);
+    }
+
+    private int fillDoubleArray(CharSequence value, PropertiesListSegment segment, double[] destination) {
+        final int count = segment == null ? NumberParser.countElements(value) : segment.size();
+
+        if(count > destination.length) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your array is too small: " + count + " elements needed.");
+        }
+        if(segment != null) {
+            for(int i = 0; i < count; i++) {
+                destination[i] = Double.parseDouble(segment.get(i));
+            }
+            return count;
+        }
+        int start = 1;
+
+        for(int i = 0; i < count; i++) {
+            final int end = NumberParser.nextElementEnd(value, start);
+
+            destination[i] = NumberParser.parseDouble(value, start, end);
+            start = end + 2;
+        }
+        return count;
+    }
+
+    private static List<String> parseList(String value, boolean withQuotationMarks) {
+        if(value.equals("[]")) {
+            return new ArrayList<>();
+        }
+        if(value.startsWith("[") && value.endsWith("]")) {
+            final int to = value.length() - 1;
+            final List<String> elements = new ArrayList<>(PropertiesTokenizer.countElements(value, 1, to));
+            int start = 1;
+
+            while(start <= to) {
+                final int end = PropertiesTokenizer.nextElementEnd(value, start, to);
+
+                if(!withQuotationMarks) {
+                    elements.add(value.substring(start, end));
+                } else if(PropertiesTokenizer.isQuoted(value, start, end)) {
+                    elements.add(PropertiesTokenizer.unquote(value, start, end));
+                } else {
+                    throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your element of your array must include \" at end and the beginning.");
+                }
+                start = end + 2;
+            }
+            return elements;
+        }
+        throw new IllegalArgumentException("Your value must include a [ and a ] at the end and the beginning");
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T getParsedValue(String key, Function<String, T> parser) {
+        final String value = this.getValue(key);
+
+        if(parser instanceof ListParser) {
+            final ListParser<?> listParser = (ListParser<?>) parser;
+            final PropertiesListSegment segment = this.getListSegment(key, value, listParser.getType());
+
+            if(segment != null) {
+                return (T) listParser.view(segment);
+            }
+        }
+        return parser.apply(value);
+    }
+
+    PropertiesListSegment getListSegment(String key, CharSequence value, ValueType type) {
+        return null;
+    }
+
+    public List<String> getStringList(String key) {
+        return this.getParsedValue(key, STRING_LIST_PARSER);
+    }
+
+    public List<Integer> getIntegerList(String key) {
+        return this.getParsedValue(key, INTEGER_LIST_PARSER);
+    }
+
+    public List<Double> getDoubleList(String key) {
+        return this.getParsedValue(key, DOUBLE_LIST_PARSER);
+    }
+
+    public List<Float> getFloatList(String key) {
+        return this.getParsedValue(key, FLOAT_LIST_PARSER);
+    }
+
+    public List<Boolean> getBooleanList(String key) {
+        return this.getParsedValue(key, BOOLEAN_LIST_PARSER);
+    }
+
+    static final class ListParser<T> implements Function<String, List<T>> {
+
+        private final ValueType type;
+        private final boolean withQuotationMarks;
+        private final Function<String, T> elementParser;
+
+        private ListParser(ValueType type, boolean withQuotationMarks, Function<String, T> elementParser) {
+            this.type = type;
+            this.withQuotationMarks = withQuotationMarks;
+            this.elementParser = elementParser;
+        }
+
+        ValueType getType() {
+            return type;
+        }
+
+        @Override
+        public List<T> apply(String value) {
+            final List<String> elements = parseList(value, this.withQuotationMarks);
+            final List<T> list = new ArrayList<>(elements.size());
+
+            for(String element : elements) {
+                list.add(this.elementParser.apply(element));
+            }
+            return Collections.unmodifiableList(list);
+        }
+
+        List<T> view(PropertiesListSegment segment) {
+            return new AbstractList<T>() {
+
+                @Override
+                public T get(int index) {
+                    return ListParser.this.elementParser.apply(segment.get(index));
+                }
+
+                @Override
+                public int size() {
+                    return segment.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class AsyncPropertiesFile extends ConcurrentPropertiesFile {
+
+    private final Map<String, PropertiesChange> pendingChanges;
+    private CompletableFuture<Void> pendingFuture;
+    private volatile long writeDelay;
+
+    public static final long DEFAULT_WRITE_DELAY = 10L;
+
+    private static final ScheduledExecutorService WRITE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "PropertiesData-Writer");
+
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AsyncPropertiesFile(String path, String name, StandardFileCreationType standardFileCreationType, StandardDirectoryCreationType standardDirectoryCreationType, KeyValueSeparator keyValueSeparator) {
+        super(path, name, standardFileCreationType, standardDirectoryCreationType, keyValueSeparator);
+        this.pendingChanges = new LinkedHashMap<>();
+        this.writeDelay = DEFAULT_WRITE_DELAY;
+    }
+
+    public long getWriteDelay() {
+        return writeDelay;
+    }
+
+    public AsyncPropertiesFile setWriteDelay(long writeDelay) {
+        if(writeDelay < 0) {
+            throw new IllegalArgumentException("The write delay can't be negative.");
+        }
+        this.writeDelay = writeDelay;
+        return this;
+    }
+
+    @Override
+    public AsyncPropertiesFile load() {
+        super.load();
+        return this;
+    }
+
+    @Override
+    public AsyncPropertiesFile load(PropertiesFile identical) {
+        super.load(identical);
+        return this;
+    }
+
+    @Override
+    void persist(List<PropertiesChange> changes) {
+        for(PropertiesChange change : changes) {
+            final PropertiesChange pendingChange = this.pendingChanges.get(change.getKey());
+
+            this.pendingChanges.put(change.getKey(), pendingChange == null ? change : new PropertiesChange(change.getKey(), pendingChange.getOldValue(), change.getNewValue()));
+        }
+        if(this.pendingFuture == null) {
+            this.pendingFuture = new CompletableFuture<>();
+            WRITE_EXECUTOR.schedule(this::writePending, this.writeDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writePending() {
+        final List<PropertiesChange> changes;
+        final List<String> lines;
+        final long version;
+        final CompletableFuture<Void> future;
+
+        synchronized(this.getWriteLock()) {
+            if(this.pendingFuture == null) {
+                return;
+            }
+            changes = new ArrayList<>(this.pendingChanges.values());
+            lines = this.getLines();
+            version = this.getVersion();
+            future = this.pendingFuture;
+            this.pendingChanges.clear();
+            this.pendingFuture = null;
+        }
+        try {
+            this.write(changes, lines, version);
+            future.complete(null);
+        } catch(IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private CompletableFuture<Void> getPendingFuture() {
+        return this.pendingFuture == null ? CompletableFuture.completedFuture(null) : this.pendingFuture;
+    }
+
+    private CompletableFuture<Void> setValueAsync(String key, String value) {
+        this.throwKeyExceptions(key);
+        synchronized(this.getWriteLock()) {
+            this.apply(Collections.singletonMap(key, value));
+            return this.getPendingFuture();
+        }
+    }
+
+    public CompletableFuture<Void> batchAsync(Consumer<PropertiesEditor> operations) {
+        final PropertiesEditor editor = this.edit();
+
+        operations.accept(editor);
+        synchronized(this.getWriteLock()) {
+            editor.commit();
+            return this.getPendingFuture();
+        }
+    }
+
+    public CompletableFuture<Void> setStringAsync(String key, String value) {
+        return this.setValueAsync(key, formatValue(value, true));
+    }
+
+    public CompletableFuture<Void> setIntegerAsync(String key, int value) {
+        return this.setValueAsync(key, formatValue(value, false));
+    }
+
+    public CompletableFuture<Void> setDoubleAsync(String key, double value) {
+        return this.setValueAsync(key, formatValue(value, false));
+    }
+
+    public CompletableFuture<Void> setFloatAsync(String key, float value) {
+        return this.setValueAsync(key, formatValue(value, false));
+    }
+
+    public CompletableFuture<Void> setBooleanAsync(String key, boolean value) {
+        return this.setValueAsync(key, formatValue(value, false));
+    }
+
+    public CompletableFuture<Void> setStringListAsync(String key, List<String> list) {
+        return this.setValueAsync(key, this.formatList(list, true, ValueType.STRING_LIST));
+    }
+
+    public CompletableFuture<Void> setIntegerListAsync(String key, List<Integer> list) {
+        return this.setValueAsync(key, this.formatList(list, false, ValueType.INTEGER_LIST));
+    }
+
+    public CompletableFuture<Void> setDoubleListAsync(String key, List<Double> list) {
+        return this.setValueAsync(key, this.formatList(list, false, ValueType.DOUBLE_LIST));
+    }
+
+    public CompletableFuture<Void> setFloatListAsync(String key, List<Float> list) {
+        return this.setValueAsync(key, this.formatList(list, false, ValueType.DOUBLE_LIST));
+    }
+
+    public CompletableFuture<Void> setBooleanListAsync(String key, List<Boolean> list) {
+        return this.setValueAsync(key, this.formatList(list, false, ValueType.BOOLEAN_LIST));
+    }
+
+    public CompletableFuture<Void> removeAsync(String key) {
+        return this.setValueAsync(key, null);
+    }
+
+    @Override
+    public void compact() {
+        final CompletableFuture<Void> future;
+
+        synchronized(this.getWriteLock()) {
+            future = this.pendingFuture;
+            this.pendingChanges.clear();
+            this.pendingFuture = null;
+            super.compact();
+        }
+        if(future != null) {
+            future.complete(null);
+        }
+    }
+
+    @Override
+    public void flush() {
+        this.writePending();
+        super.flush();
+    }
+
+    @Override
+    public void close() {
+        this.writePending();
+        super.close();
+    }
+}
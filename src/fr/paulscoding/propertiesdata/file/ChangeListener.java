@@ -0,0 +1,7 @@
+package fr.paulscoding.propertiesdata.file;
+
+@FunctionalInterface
+public interface ChangeListener {
+
+    void onChange(String key, String oldValue, String newValue);
+}
@@ -0,0 +1,159 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ConcurrentPropertiesFile extends PropertiesFile {
+
+    private final Object writeLock;
+    private volatile Snapshot snapshot;
+
+    public ConcurrentPropertiesFile(String path, String name, StandardFileCreationType standardFileCreationType, StandardDirectoryCreationType standardDirectoryCreationType, KeyValueSeparator keyValueSeparator) {
+        super(path, name, standardFileCreationType, standardDirectoryCreationType, keyValueSeparator);
+        this.writeLock = new Object();
+        this.snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyList());
+    }
+
+    Object getWriteLock() {
+        return writeLock;
+    }
+
+    private void publish() {
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(new HashMap<>(this.getIndex())), Collections.unmodifiableList(new ArrayList<>(super.getLines())));
+    }
+
+    @Override
+    public List<String> getLines() {
+        return this.snapshot.lines;
+    }
+
+    @Override
+    public ConcurrentPropertiesFile load() {
+        synchronized(this.writeLock) {
+            super.load();
+            this.publish();
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentPropertiesFile load(PropertiesFile identical) {
+        synchronized(this.writeLock) {
+            super.load(identical);
+            this.publish();
+        }
+        return this;
+    }
+
+    @Override
+    void apply(Map<String, String> changes) {
+        synchronized(this.writeLock) {
+            final List<PropertiesChange> appliedChanges = this.applyChanges(changes);
+
+            if(!appliedChanges.isEmpty()) {
+                this.publish();
+                this.notifyChangeListeners(appliedChanges);
+            }
+        }
+    }
+
+    @Override
+    public ConcurrentPropertiesFile reload() {
+        synchronized(this.writeLock) {
+            if(this.isUpToDate()) {
+                return this;
+            }
+            final List<PropertiesChange> changes = this.reloadChanges();
+
+            this.publish();
+            this.notifyChangeListeners(changes);
+        }
+        return this;
+    }
+
+    public ConcurrentPropertiesFile watch() {
+        PropertiesWatcher.register(this);
+        return this;
+    }
+
+    public void unwatch() {
+        PropertiesWatcher.unregister(this);
+    }
+
+    @Override
+    public void flush() {
+        synchronized(this.writeLock) {
+            super.flush();
+        }
+    }
+
+    @Override
+    public void compact() {
+        synchronized(this.writeLock) {
+            super.compact();
+            this.publish();
+        }
+    }
+
+    @Override
+    public void exportSnapshot() {
+        synchronized(this.writeLock) {
+            super.exportSnapshot();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.unwatch();
+        synchronized(this.writeLock) {
+            super.close();
+        }
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.snapshot.index.keySet();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.isValidKey(key) && this.snapshot.index.containsKey(key);
+    }
+
+    @Override
+    PropertiesEntry getEntry(String key) {
+        return this.snapshot.index.get(key);
+    }
+
+    @Override
+    SortedIndex getSortedIndex() {
+        return this.snapshot.getSortedIndex();
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, PropertiesEntry> index;
+        private final List<String> lines;
+        private volatile SortedIndex sortedIndex;
+
+        private Snapshot(Map<String, PropertiesEntry> index, List<String> lines) {
+            this.index = index;
+            this.lines = lines;
+        }
+
+        private SortedIndex getSortedIndex() {
+            if(this.sortedIndex == null) {
+                this.sortedIndex = new SortedIndex(this.index);
+            }
+            return this.sortedIndex;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class LayeredProperties extends AbstractProperties {
+
+    private final List<PropertiesFile> layers;
+    private final Map<String, Integer> resolvedLayers;
+    private final ChangeListener changeListener;
+
+    public LayeredProperties(PropertiesFile... layers) {
+        this(Arrays.asList(layers));
+    }
+
+    public LayeredProperties(List<PropertiesFile> layers) {
+        if(layers.isEmpty()) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "You must set at least one layer.");
+        }
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+        this.resolvedLayers = new ConcurrentHashMap<>();
+        this.changeListener = (key, oldValue, newValue) -> {
+            if((oldValue == null) != (newValue == null)) {
+                this.resolvedLayers.remove(key);
+            }
+        };
+        for(PropertiesFile layer : this.layers) {
+            layer.addChangeListener(this.changeListener);
+        }
+    }
+
+    public List<PropertiesFile> getLayers() {
+        return layers;
+    }
+
+    @Override
+    public KeyValueSeparator getKeyValueSeparator() {
+        return this.layers.get(this.layers.size() - 1).getKeyValueSeparator();
+    }
+
+    public PropertiesFile getLayer(String key) {
+        this.throwKeyExceptions(key);
+        return this.resolve(key);
+    }
+
+    private PropertiesFile resolve(String key) {
+        final Integer layer = this.resolvedLayers.computeIfAbsent(key, this::findLayer);
+
+        return layer == null ? null : this.layers.get(layer);
+    }
+
+    private Integer findLayer(String key) {
+        for(int i = this.layers.size() - 1; i >= 0; i--) {
+            if(this.layers.get(i).getEntry(key) != null) {
+                return i;
+            }
+        }
+        return null;
+    }
+
+    public void invalidate() {
+        this.resolvedLayers.clear();
+    }
+
+    public void detach() {
+        for(PropertiesFile layer : this.layers) {
+            layer.removeChangeListener(this.changeListener);
+        }
+        this.resolvedLayers.clear();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.isValidKey(key) && this.resolve(key) != null;
+    }
+
+    @Override
+    protected String getRawValue(String key) {
+        final PropertiesFile layer = this.resolve(key);
+
+        return layer == null ? null : layer.getRawValue(key);
+    }
+
+    @Override
+    protected ValueType getRawType(String key) {
+        final PropertiesFile layer = this.resolve(key);
+
+        return layer == null ? null : layer.getRawType(key);
+    }
+
+    @Override
+    protected <T> T getParsedValue(String key, Function<String, T> parser) {
+        this.throwKeyExceptions(key);
+        final PropertiesFile layer = this.resolve(key);
+
+        return layer == null ? super.getParsedValue(key, parser) : layer.getParsedValue(key, parser);
+    }
+
+    @Override
+    PropertiesListSegment getListSegment(String key, CharSequence value, ValueType type) {
+        final PropertiesFile layer = this.resolve(key);
+
+        return layer == null ? null : layer.getListSegment(key, value, type);
+    }
+}
@@ -0,0 +1,546 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesMetrics;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class MappedPropertiesFile extends AbstractProperties {
+
+    private final String path, name, absolutePath;
+    private final KeyValueSeparator keyValueSeparator;
+    private final File file;
+    private final byte[] separator;
+    private MappedByteBuffer buffer;
+    private int size;
+    private int[] keyStarts, separatorStarts, valueEnds, lineNumbers, hashes, table;
+    private volatile int[] sortedEntries;
+    private final ThreadLocal<MappedSequence> sequences;
+    private final Map<String, PropertiesEntry.ParsedValue> parsedValues;
+    private final Path listDirectory;
+    private final Map<String, PropertiesListSegment> listSegments;
+
+    private static final int[] EMPTY = new int[0];
+
+    public MappedPropertiesFile(String path, String name, KeyValueSeparator keyValueSeparator) {
+        this.path = path;
+        this.name = name + PropertiesFile.FILE_EXTENSION;
+        this.absolutePath = this.path + this.name;
+        this.keyValueSeparator = keyValueSeparator;
+        this.file = new File(this.absolutePath);
+        this.separator = keyValueSeparator.getSeparator().getBytes(StandardCharsets.UTF_8);
+        this.keyStarts = EMPTY;
+        this.separatorStarts = EMPTY;
+        this.valueEnds = EMPTY;
+        this.lineNumbers = EMPTY;
+        this.hashes = EMPTY;
+        this.table = new int[1];
+        this.sequences = ThreadLocal.withInitial(MappedSequence::new);
+        this.parsedValues = new ConcurrentHashMap<>();
+        this.listDirectory = this.file.toPath().resolveSibling(this.name + PropertiesListSegment.DIRECTORY_EXTENSION);
+        this.listSegments = new ConcurrentHashMap<>();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAbsolutePath() {
+        return absolutePath;
+    }
+
+    @Override
+    public KeyValueSeparator getKeyValueSeparator() {
+        return keyValueSeparator;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MappedPropertiesFile load() {
+        final long loadStart = System.nanoTime();
+
+        try(FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+
+            if(length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The file " + this.absolutePath + " is too large to be mapped.");
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            this.parsedValues.clear();
+            this.listSegments.clear();
+            this.sortedEntries = null;
+
+            final long parseStart = System.nanoTime();
+
+            this.index();
+            PropertiesData.getMetrics().onParse(this.absolutePath, System.nanoTime() - parseStart, this.size);
+            PropertiesData.getMetrics().onLoad(this.absolutePath, System.nanoTime() - loadStart, length);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+        return this;
+    }
+
+    private void index() {
+        final MappedByteBuffer buffer = this.buffer;
+        final int limit = buffer.limit();
+        int capacity = 16;
+
+        this.size = 0;
+        this.keyStarts = new int[capacity];
+        this.separatorStarts = new int[capacity];
+        this.valueEnds = new int[capacity];
+        this.lineNumbers = new int[capacity];
+        this.hashes = new int[capacity];
+        this.table = new int[tableCapacity(capacity)];
+
+        int lineStart = 0, lineNumber = 0;
+
+        while(lineStart < limit) {
+            int lineEnd = lineStart;
+
+            while(lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            final int nextLine = lineEnd + 1;
+
+            if(lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            final int separatorStart = this.indexOfSeparator(lineStart, lineEnd);
+
+            if(separatorStart != -1) {
+                lineEnd = this.unpaddedEnd(separatorStart + this.separator.length, lineEnd);
+                if(this.size == capacity) {
+                    capacity *= 2;
+                    this.keyStarts = Arrays.copyOf(this.keyStarts, capacity);
+                    this.separatorStarts = Arrays.copyOf(this.separatorStarts, capacity);
+                    this.valueEnds = Arrays.copyOf(this.valueEnds, capacity);
+                    this.lineNumbers = Arrays.copyOf(this.lineNumbers, capacity);
+                    this.hashes = Arrays.copyOf(this.hashes, capacity);
+                    this.rehash(tableCapacity(capacity));
+                }
+                final int hash = this.hash(lineStart, separatorStart);
+
+                if(this.find(hash, lineStart, separatorStart - lineStart) == -1) {
+                    this.keyStarts[this.size] = lineStart;
+                    this.separatorStarts[this.size] = separatorStart;
+                    this.valueEnds[this.size] = lineEnd;
+                    this.lineNumbers[this.size] = lineNumber;
+                    this.hashes[this.size] = hash;
+                    this.insert(this.table, this.size, hash);
+                    this.size++;
+                }
+            }
+            lineStart = nextLine;
+            lineNumber++;
+        }
+    }
+
+    private static int tableCapacity(int capacity) {
+        return Integer.highestOneBit(capacity) * 4;
+    }
+
+    private int indexOfSeparator(int from, int to) {
+        final byte first = this.separator[0];
+
+        outer:
+        for(int i = from; i <= to - this.separator.length; i++) {
+            if(this.buffer.get(i) != first) {
+                continue;
+            }
+            for(int j = 1; j < this.separator.length; j++) {
+                if(this.buffer.get(i + j) != this.separator[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private int unpaddedEnd(int valueStart, int lineEnd) {
+        int valueEnd = lineEnd;
+
+        while(valueEnd > valueStart && this.buffer.get(valueEnd - 1) == ' ') {
+            valueEnd--;
+        }
+        if(valueEnd == lineEnd || valueEnd - valueStart < 2) {
+            return lineEnd;
+        }
+        final byte first = this.buffer.get(valueStart), last = this.buffer.get(valueEnd - 1);
+
+        return (first == '"' && last == '"') || (first == '[' && last == ']') ? valueEnd : lineEnd;
+    }
+
+    private int hash(int from, int to) {
+        int hash = 0;
+
+        for(int i = from; i < to; i++) {
+            hash = 31 * hash + (this.buffer.get(i) & 0xFF);
+        }
+        return hash;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void insert(int[] table, int entry, int hash) {
+        final int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+
+        while(table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private void rehash(int tableCapacity) {
+        final int[] table = new int[tableCapacity];
+
+        for(int i = 0; i < this.size; i++) {
+            this.insert(table, i, this.hashes[i]);
+        }
+        this.table = table;
+    }
+
+    private int find(int hash, int keyStart, int keyLength) {
+        final int mask = this.table.length - 1;
+        int slot = mix(hash) & mask;
+
+        while(this.table[slot] != 0) {
+            final int entry = this.table[slot] - 1;
+
+            if(this.hashes[entry] == hash && this.separatorStarts[entry] - this.keyStarts[entry] == keyLength && this.regionEquals(this.keyStarts[entry], keyStart, keyLength)) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean regionEquals(int first, int second, int length) {
+        for(int i = 0; i < length; i++) {
+            if(this.buffer.get(first + i) != this.buffer.get(second + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int find(String key) {
+        if(this.buffer == null) {
+            return -1;
+        }
+        final int length = key.length();
+        int hash = 0;
+
+        for(int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+
+            if(c >= 0x80) {
+                return this.find(key.getBytes(StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + c;
+        }
+        final int mask = this.table.length - 1;
+        int slot = mix(hash) & mask;
+
+        outer:
+        while(this.table[slot] != 0) {
+            final int entry = this.table[slot] - 1;
+            final int keyStart = this.keyStarts[entry];
+
+            slot = (slot + 1) & mask;
+            if(this.hashes[entry] != hash || this.separatorStarts[entry] - keyStart != length) {
+                continue;
+            }
+            for(int i = 0; i < length; i++) {
+                if(this.buffer.get(keyStart + i) != key.charAt(i)) {
+                    continue outer;
+                }
+            }
+            return entry;
+        }
+        return -1;
+    }
+
+    private int find(byte[] key) {
+        int hash = 0;
+
+        for(byte b : key) {
+            hash = 31 * hash + (b & 0xFF);
+        }
+        final int mask = this.table.length - 1;
+        int slot = mix(hash) & mask;
+
+        outer:
+        while(this.table[slot] != 0) {
+            final int entry = this.table[slot] - 1;
+            final int keyStart = this.keyStarts[entry];
+
+            slot = (slot + 1) & mask;
+            if(this.hashes[entry] != hash || this.separatorStarts[entry] - keyStart != key.length) {
+                continue;
+            }
+            for(int i = 0; i < key.length; i++) {
+                if(this.buffer.get(keyStart + i) != key[i]) {
+                    continue outer;
+                }
+            }
+            return entry;
+        }
+        return -1;
+    }
+
+    private String decode(int from, int to) {
+        final ByteBuffer slice = this.buffer.duplicate();
+
+        slice.position(from);
+        slice.limit(to);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.isValidKey(key) && this.find(key) != -1;
+    }
+
+    private int findForGet(String key) {
+        final int entry = this.find(key);
+        final PropertiesMetrics metrics = PropertiesData.getMetrics();
+
+        if(metrics != PropertiesMetrics.NONE) {
+            metrics.onGet(this.absolutePath, entry != -1);
+        }
+        return entry;
+    }
+
+    @Override
+    protected String getRawValue(String key) {
+        final int entry = this.findForGet(key);
+
+        return entry == -1 ? null : this.decode(this.separatorStarts[entry] + this.separator.length, this.valueEnds[entry]);
+    }
+
+    @Override
+    protected CharSequence getRawSequence(String key) {
+        final int entry = this.findForGet(key);
+
+        return entry == -1 ? null : this.sequences.get().reset(this.buffer, this.separatorStarts[entry] + this.separator.length, this.valueEnds[entry]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T getParsedValue(String key, Function<String, T> parser) {
+        final PropertiesEntry.ParsedValue parsedValue = this.parsedValues.get(key);
+
+        if(parsedValue != null && parsedValue.getParser() == parser) {
+            final PropertiesMetrics metrics = PropertiesData.getMetrics();
+
+            if(metrics != PropertiesMetrics.NONE) {
+                metrics.onGet(this.absolutePath, true);
+            }
+            return (T) parsedValue.getValue();
+        }
+        final T value = super.getParsedValue(key, parser);
+
+        this.parsedValues.put(key, new PropertiesEntry.ParsedValue(parser, value));
+        return value;
+    }
+
+    @Override
+    PropertiesListSegment getListSegment(String key, CharSequence value, ValueType type) {
+        return PropertiesListSegment.resolve(this.listSegments, this.listDirectory, key, value, type);
+    }
+
+    private PropertiesEntry getEntry(int entry) {
+        final String key = this.decode(this.keyStarts[entry], this.separatorStarts[entry]);
+        final String value = this.decode(this.separatorStarts[entry] + this.separator.length, this.valueEnds[entry]);
+
+        return new PropertiesEntry(key, value, this.lineNumbers[entry]);
+    }
+
+    private int[] getSortedEntries() {
+        int[] sortedEntries = this.sortedEntries;
+
+        if(sortedEntries == null) {
+            final Integer[] entries = new Integer[this.size];
+
+            for(int i = 0; i < entries.length; i++) {
+                entries[i] = i;
+            }
+            Arrays.sort(entries, (first, second) -> this.compareKey(first, this.keyStarts[second], this.separatorStarts[second] - this.keyStarts[second]));
+            sortedEntries = new int[entries.length];
+            for(int i = 0; i < entries.length; i++) {
+                sortedEntries[i] = entries[i];
+            }
+            this.sortedEntries = sortedEntries;
+        }
+        return sortedEntries;
+    }
+
+    private int compareKey(int entry, int otherStart, int otherLength) {
+        final int start = this.keyStarts[entry];
+        final int length = this.separatorStarts[entry] - start;
+
+        for(int i = 0; i < length && i < otherLength; i++) {
+            final int difference = (this.buffer.get(start + i) & 0xFF) - (this.buffer.get(otherStart + i) & 0xFF);
+
+            if(difference != 0) {
+                return difference;
+            }
+        }
+        return length - otherLength;
+    }
+
+    private int compareKey(int entry, byte[] key) {
+        final int start = this.keyStarts[entry];
+        final int length = Math.min(this.separatorStarts[entry] - start, key.length);
+
+        for(int i = 0; i < length; i++) {
+            final int difference = (this.buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+
+            if(difference != 0) {
+                return difference;
+            }
+        }
+        return this.separatorStarts[entry] - start - key.length;
+    }
+
+    private boolean startsWith(int entry, byte[] prefix) {
+        final int start = this.keyStarts[entry];
+
+        if(this.separatorStarts[entry] - start < prefix.length) {
+            return false;
+        }
+        for(int i = 0; i < prefix.length; i++) {
+            if(this.buffer.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(int[] sortedEntries, byte[] key) {
+        int low = 0, high = sortedEntries.length;
+
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if(this.compareKey(sortedEntries[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public Set<String> keys() {
+        return new AbstractSet<String>() {
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && MappedPropertiesFile.this.contains((String) o);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return MappedPropertiesFile.this.entries().map(PropertiesEntry::getKey).iterator();
+            }
+
+            @Override
+            public int size() {
+                return MappedPropertiesFile.this.size;
+            }
+        };
+    }
+
+    public Stream<PropertiesEntry> entries() {
+        return this.entries(null, null);
+    }
+
+    public Stream<PropertiesEntry> entries(String fromKey, String toKey) {
+        final int[] sortedEntries = this.getSortedEntries();
+        final int from = fromKey == null ? 0 : this.lowerBound(sortedEntries, fromKey.getBytes(StandardCharsets.UTF_8));
+        final int to = toKey == null ? sortedEntries.length : this.lowerBound(sortedEntries, toKey.getBytes(StandardCharsets.UTF_8));
+
+        return from >= to ? Stream.empty() : Arrays.stream(sortedEntries, from, to).mapToObj(this::getEntry);
+    }
+
+    public void forEachWithPrefix(String prefix, Consumer<PropertiesEntry> consumer) {
+        final int[] sortedEntries = this.getSortedEntries();
+        final byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+
+        for(int i = this.lowerBound(sortedEntries, bytes); i < sortedEntries.length && this.startsWith(sortedEntries[i], bytes); i++) {
+            consumer.accept(this.getEntry(sortedEntries[i]));
+        }
+    }
+
+    private static final class MappedSequence implements CharSequence {
+
+        private ByteBuffer buffer;
+        private int from, to;
+
+        private MappedSequence reset(ByteBuffer buffer, int from, int to) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return this.to - this.from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this.buffer.get(this.from + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            final ByteBuffer slice = this.buffer.duplicate();
+
+            slice.position(this.from + start);
+            slice.limit(this.from + end);
+            return StandardCharsets.UTF_8.decode(slice).toString();
+        }
+
+        @Override
+        public String toString() {
+            return this.subSequence(0, this.length()).toString();
+        }
+    }
+}
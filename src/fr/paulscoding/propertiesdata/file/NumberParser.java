@@ -0,0 +1,156 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+
+final class NumberParser {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private NumberParser() {
+    }
+
+    static int parseInt(CharSequence value, int from, int to) {
+        final long result = parseLong(value, from, to);
+
+        if(result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw numberFormatException(value, from, to);
+        }
+        return (int) result;
+    }
+
+    static long parseLong(CharSequence value, int from, int to) {
+        int i = from;
+        boolean negative = false;
+
+        if(i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        if(i == to) {
+            throw numberFormatException(value, from, to);
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyMinimum = limit / 10;
+        long result = 0;
+
+        for(; i < to; i++) {
+            final int digit = value.charAt(i) - '0';
+
+            if(digit < 0 || digit > 9 || result < multiplyMinimum) {
+                throw numberFormatException(value, from, to);
+            }
+            result *= 10;
+            if(result < limit + digit) {
+                throw numberFormatException(value, from, to);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static double parseDouble(CharSequence value, int from, int to) {
+        int i = from;
+        boolean negative = false;
+
+        if(i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0, exponent = 0;
+        boolean anyDigit = false;
+
+        while(i < to && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            if(mantissa != 0 || value.charAt(i) != '0') {
+                if(++digits > MAX_EXACT_DIGITS) {
+                    return fallbackParseDouble(value, from, to);
+                }
+                mantissa = mantissa * 10 + (value.charAt(i) - '0');
+            }
+            anyDigit = true;
+            i++;
+        }
+        if(i < to && value.charAt(i) == '.') {
+            i++;
+            while(i < to && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                if(mantissa != 0 || value.charAt(i) != '0') {
+                    if(++digits > MAX_EXACT_DIGITS) {
+                        return fallbackParseDouble(value, from, to);
+                    }
+                    mantissa = mantissa * 10 + (value.charAt(i) - '0');
+                }
+                exponent--;
+                anyDigit = true;
+                i++;
+            }
+        }
+        if(!anyDigit) {
+            return fallbackParseDouble(value, from, to);
+        }
+        if(i < to && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+
+            if(i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                negativeExponent = value.charAt(i) == '-';
+                i++;
+            }
+            final int exponentStart = i;
+            int explicitExponent = 0;
+
+            while(i < to && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                if(explicitExponent > 1000) {
+                    return fallbackParseDouble(value, from, to);
+                }
+                explicitExponent = explicitExponent * 10 + (value.charAt(i) - '0');
+                i++;
+            }
+            if(i == exponentStart) {
+                return fallbackParseDouble(value, from, to);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if(i != to) {
+            return fallbackParseDouble(value, from, to);
+        }
+        final double result;
+
+        if(mantissa == 0) {
+            result = 0.0;
+        } else if(exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            result = mantissa * POWERS_OF_TEN[exponent];
+        } else if(exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            result = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return fallbackParseDouble(value, from, to);
+        }
+        return negative ? -result : result;
+    }
+
+    private static double fallbackParseDouble(CharSequence value, int from, int to) {
+        return Double.parseDouble(value.subSequence(from, to).toString());
+    }
+
+    static int countElements(CharSequence value) {
+        checkList(value);
+        return PropertiesTokenizer.countElements(value, 1, value.length() - 1);
+    }
+
+    static int nextElementEnd(CharSequence value, int from) {
+        return PropertiesTokenizer.nextElementEnd(value, from, value.length() - 1);
+    }
+
+    private static void checkList(CharSequence value) {
+        if(value.length() < 2 || value.charAt(0) != '[' || value.charAt(value.length() - 1) != ']') {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your value must include a [ and a ] at the end and the beginning");
+        }
+    }
+
+    private static NumberFormatException numberFormatException(CharSequence value, int from, int to) {
+        return new NumberFormatException("For input string: \"" + value.subSequence(from, to) + "\"");
+    }
+}
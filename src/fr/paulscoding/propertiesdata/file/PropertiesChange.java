@@ -0,0 +1,24 @@
+package fr.paulscoding.propertiesdata.file;
+
+final class PropertiesChange {
+
+    private final String key, oldValue, newValue;
+
+    PropertiesChange(String key, String oldValue, String newValue) {
+        this.key = key;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getOldValue() {
+        return oldValue;
+    }
+
+    String getNewValue() {
+        return newValue;
+    }
+}
@@ -0,0 +1,145 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public final class PropertiesEditor {
+
+    private final PropertiesFile propertiesFile;
+    private final Map<String, Supplier<String>> changes;
+
+    PropertiesEditor(PropertiesFile propertiesFile) {
+        this.propertiesFile = propertiesFile;
+        this.changes = new LinkedHashMap<>();
+    }
+
+    public PropertiesFile getPropertiesFile() {
+        return propertiesFile;
+    }
+
+    private PropertiesEditor putFormatted(String key, Supplier<String> value) {
+        this.propertiesFile.throwKeyExceptions(key);
+        this.changes.put(key, value);
+        return this;
+    }
+
+    private PropertiesEditor put(String key, String value) {
+        return this.putFormatted(key, value == null ? null : () -> value);
+    }
+
+    private PropertiesEditor putList(String key, List<?> list, boolean withQuotationMarks, ValueType type) {
+        final List<?> elements = new ArrayList<>(list);
+
+        return this.putFormatted(key, () -> this.propertiesFile.formatList(elements, withQuotationMarks, type));
+    }
+
+    private boolean contains(String key) {
+        if(this.changes.containsKey(key)) {
+            return this.changes.get(key) != null;
+        }
+        return this.propertiesFile.contains(key);
+    }
+
+    private PropertiesEditor putDefault(String key, String value) {
+        return this.contains(key) ? this : this.put(key, value);
+    }
+
+    public PropertiesEditor setString(String key, String value) {
+        return this.put(key, PropertiesFile.formatValue(value, true));
+    }
+
+    public PropertiesEditor setInteger(String key, int value) {
+        return this.put(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setDouble(String key, double value) {
+        return this.put(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setFloat(String key, float value) {
+        return this.put(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setBoolean(String key, boolean value) {
+        return this.put(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setStringList(String key, List<String> list) {
+        return this.putList(key, list, true, ValueType.STRING_LIST);
+    }
+
+    public PropertiesEditor setIntegerList(String key, List<Integer> list) {
+        return this.putList(key, list, false, ValueType.INTEGER_LIST);
+    }
+
+    public PropertiesEditor setDoubleList(String key, List<Double> list) {
+        return this.putList(key, list, false, ValueType.DOUBLE_LIST);
+    }
+
+    public PropertiesEditor setFloatList(String key, List<Float> list) {
+        return this.putList(key, list, false, ValueType.DOUBLE_LIST);
+    }
+
+    public PropertiesEditor setBooleanList(String key, List<Boolean> list) {
+        return this.putList(key, list, false, ValueType.BOOLEAN_LIST);
+    }
+
+    public PropertiesEditor setDefaultString(String key, String value) {
+        return this.putDefault(key, PropertiesFile.formatValue(value, true));
+    }
+
+    public PropertiesEditor setDefaultInteger(String key, int value) {
+        return this.putDefault(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setDefaultDouble(String key, double value) {
+        return this.putDefault(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setDefaultFloat(String key, float value) {
+        return this.putDefault(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setDefaultBoolean(String key, boolean value) {
+        return this.putDefault(key, PropertiesFile.formatValue(value, false));
+    }
+
+    public PropertiesEditor setDefaultStringList(String key, List<String> list) {
+        return this.contains(key) ? this : this.setStringList(key, list);
+    }
+
+    public PropertiesEditor setDefaultIntegerList(String key, List<Integer> list) {
+        return this.contains(key) ? this : this.setIntegerList(key, list);
+    }
+
+    public PropertiesEditor setDefaultDoubleList(String key, List<Double> list) {
+        return this.contains(key) ? this : this.setDoubleList(key, list);
+    }
+
+    public PropertiesEditor setDefaultFloatList(String key, List<Float> list) {
+        return this.contains(key) ? this : this.setFloatList(key, list);
+    }
+
+    public PropertiesEditor setDefaultBooleanList(String key, List<Boolean> list) {
+        return this.contains(key) ? this : this.setBooleanList(key, list);
+    }
+
+    public PropertiesEditor remove(String key) {
+        return this.put(key, null);
+    }
+
+    public void commit() {
+        final Map<String, String> changes = new LinkedHashMap<>();
+
+        for(Map.Entry<String, Supplier<String>> change : this.changes.entrySet()) {
+            changes.put(change.getKey(), change.getValue() == null ? null : change.getValue().get());
+        }
+        this.propertiesFile.apply(changes);
+        this.changes.clear();
+    }
+}
@@ -0,0 +1,222 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.util.function.Function;
+
+public final class PropertiesEntry {
+
+    private final String key, value;
+    private final int line;
+    private ValueType type;
+    private volatile ParsedValue parsedValue;
+
+    PropertiesEntry(String key, String value, int line) {
+        this.key = key;
+        this.value = value;
+        this.line = line;
+    }
+
+    PropertiesEntry(String key, String value, int line, ValueType type) {
+        this(key, value, line);
+        this.type = type;
+    }
+
+    PropertiesEntry withLine(int line) {
+        final PropertiesEntry entry = new PropertiesEntry(this.key, this.value, line, this.type);
+
+        entry.parsedValue = this.parsedValue;
+        return entry;
+    }
+
+    static PropertiesEntry parse(String line, int lineNumber, String separator) {
+        final int separatorIndex = PropertiesTokenizer.indexOfSeparator(line, separator);
+
+        if(separatorIndex == -1) {
+            return null;
+        }
+        return new PropertiesEntry(line.substring(0, separatorIndex), valueOf(line, separatorIndex + separator.length()), lineNumber);
+    }
+
+    static String valueOf(String line, int valueStart) {
+        return line.substring(valueStart, PropertiesLayout.unpaddedEnd(line, valueStart));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public ValueType getType() {
+        if(this.type == null) {
+            this.type = detectType(this.value);
+        }
+        return this.type;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getParsedValue(Function<String, T> parser) {
+        final ParsedValue parsedValue = this.parsedValue;
+
+        if(parsedValue != null && parsedValue.parser == parser) {
+            return (T) parsedValue.value;
+        }
+        final T value = parser.apply(this.value);
+
+        this.parsedValue = new ParsedValue(parser, value);
+        return value;
+    }
+
+    static ValueType detectType(String value) {
+        if(isQuoted(value, 0, value.length())) {
+            return ValueType.STRING;
+        }
+        if(PropertiesListSegment.isReference(value)) {
+            return PropertiesListSegment.getType(value);
+        }
+        if(value.length() >= 2 && value.charAt(0) == '[' && value.charAt(value.length() - 1) == ']') {
+            return detectListType(value);
+        }
+        return detectScalarType(value, 0, value.length());
+    }
+
+    private static ValueType detectListType(String value) {
+        final int end = value.length() - 1;
+
+        if(end == 1) {
+            return ValueType.EMPTY_LIST;
+        }
+        ValueType listType = null;
+        int start = 1;
+
+        while(start <= end) {
+            final int elementEnd = PropertiesTokenizer.nextElementEnd(value, start, end);
+            ValueType elementType = PropertiesTokenizer.isQuoted(value, start, elementEnd) ? ValueType.STRING : detectScalarType(value, start, elementEnd);
+
+            if(elementType == ValueType.LONG) {
+                elementType = ValueType.DOUBLE;
+            }
+
+            if(elementType == ValueType.UNKNOWN) {
+                return ValueType.UNKNOWN;
+            }
+            if(listType == null || listType == elementType) {
+                listType = elementType;
+            } else if((listType == ValueType.INTEGER && elementType == ValueType.DOUBLE) || (listType == ValueType.DOUBLE && elementType == ValueType.INTEGER)) {
+                listType = ValueType.DOUBLE;
+            } else {
+                return ValueType.UNKNOWN;
+            }
+            start = elementEnd + 2;
+        }
+        switch(listType) {
+            case STRING:
+                return ValueType.STRING_LIST;
+            case INTEGER:
+                return ValueType.INTEGER_LIST;
+            case DOUBLE:
+                return ValueType.DOUBLE_LIST;
+            default:
+                return ValueType.BOOLEAN_LIST;
+        }
+    }
+
+    private static boolean isQuoted(String value, int start, int end) {
+        return end - start >= 2 && value.charAt(start) == '"' && value.charAt(end - 1) == '"';
+    }
+
+    private static ValueType detectScalarType(String value, int start, int end) {
+        if(end - start == 4 && value.regionMatches(true, start, "true", 0, 4) || end - start == 5 && value.regionMatches(true, start, "false", 0, 5)) {
+            return ValueType.BOOLEAN;
+        }
+        int i = start;
+
+        if(i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+        final int digitsStart = i;
+
+        while(i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        final int integerDigits = i - digitsStart;
+
+        if(i == end) {
+            return integerDigits == 0 ? ValueType.UNKNOWN : detectIntegerType(value, start, end);
+        }
+        int fractionDigits = 0;
+
+        if(value.charAt(i) == '.') {
+            i++;
+            while(i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                i++;
+                fractionDigits++;
+            }
+        }
+        if(integerDigits == 0 && fractionDigits == 0) {
+            return value.regionMatches(digitsStart, "NaN", 0, 3) && digitsStart + 3 == end || value.regionMatches(digitsStart, "Infinity", 0, 8) && digitsStart + 8 == end ? ValueType.DOUBLE : ValueType.UNKNOWN;
+        }
+        if(i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if(i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                i++;
+            }
+            final int exponentStart = i;
+
+            while(i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                i++;
+            }
+            if(i == exponentStart) {
+                return ValueType.UNKNOWN;
+            }
+        }
+        if(i < end && "fFdD".indexOf(value.charAt(i)) != -1) {
+            i++;
+        }
+        return i == end ? ValueType.DOUBLE : ValueType.UNKNOWN;
+    }
+
+    private static ValueType detectIntegerType(String value, int start, int end) {
+        final boolean negative = value.charAt(start) == '-';
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / 10;
+        int i = negative || value.charAt(start) == '+' ? start + 1 : start;
+        long result = 0;
+
+        for(; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+
+            if(result < multiplicationLimit || result * 10 < limit + digit) {
+                return ValueType.DOUBLE;
+            }
+            result = result * 10 - digit;
+        }
+        return result >= (negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE) ? ValueType.INTEGER : ValueType.LONG;
+    }
+
+    static final class ParsedValue {
+
+        private final Function<String, ?> parser;
+        private final Object value;
+
+        ParsedValue(Function<String, ?> parser, Object value) {
+            this.parser = parser;
+            this.value = value;
+        }
+
+        Function<String, ?> getParser() {
+            return parser;
+        }
+
+        Object getValue() {
+            return value;
+        }
+    }
+}
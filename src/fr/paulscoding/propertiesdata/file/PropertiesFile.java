@@ -1,29 +1,84 @@
 package fr.paulscoding.propertiesdata.file;
 
 import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesMetrics;
 import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
 import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
 import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.StandardSyncType;
+import fr.paulscoding.propertiesdata.util.StandardWriteType;
+import fr.paulscoding.propertiesdata.util.ValueType;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-public class PropertiesFile {
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class PropertiesFile extends AbstractProperties implements Closeable {
 
     private final String path, name, absolutePath;
     private final StandardFileCreationType standardFileCreationType;
     private final StandardDirectoryCreationType standardDirectoryCreationType;
     private final KeyValueSeparator keyValueSeparator;
-    private final File file;
+    private final File file, copy, temporaryFile, compactingFile;
     private final List<String> lines;
-    private BufferedReader bufferedReader;
-    private BufferedWriter bufferedWriter;
+    private final Map<String, PropertiesEntry> index;
+    private final AtomicBoolean syncScheduled, compacting;
+    private final List<ChangeListener> changeListeners;
+    private final PropertiesJournal journal;
+    private final PropertiesSnapshot snapshot;
+    private final PropertiesLayout layout;
+    private final Path listDirectory;
+    private final Map<String, PropertiesListSegment> listSegments;
+    private SortedIndex sortedIndex;
+    private Set<String> shadowedKeys;
+    private PropertiesLock sharedLock;
+    private final Object fileLock;
+    private volatile FileTime lastModified;
+    private volatile long length;
+    private StandardSyncType standardSyncType;
+    private StandardWriteType standardWriteType;
+    private int listSegmentThreshold;
+    private long groupCommitDelay, journalCompactionSize, journalCompactionDelay, version;
+    private volatile long writtenVersion, sharedVersion;
+    private boolean dirty;
 
     public static final String FILE_EXTENSION = ".proper";
+    public static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    public static final long DEFAULT_GROUP_COMMIT_DELAY = 100L;
+    public static final long DEFAULT_JOURNAL_COMPACTION_SIZE = 1024L * 1024L;
+    public static final long DEFAULT_JOURNAL_COMPACTION_DELAY = 60000L;
+
+    private static final ScheduledExecutorService SYNC_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "PropertiesData-Sync");
+
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public PropertiesFile(String path, String name, StandardFileCreationType standardFileCreationType, StandardDirectoryCreationType standardDirectoryCreationType, KeyValueSeparator keyValueSeparator) {
         this.path = path;
@@ -33,7 +88,25 @@ public class PropertiesFile {
         this.standardDirectoryCreationType = standardDirectoryCreationType;
         this.keyValueSeparator = keyValueSeparator;
         this.file = new File(this.absolutePath);
+        this.copy = new File(this.path, "copy-" + this.name);
+        this.temporaryFile = new File(this.absolutePath + TEMPORARY_FILE_EXTENSION);
+        this.compactingFile = new File(this.absolutePath + PropertiesJournal.COMPACTING_FILE_EXTENSION + TEMPORARY_FILE_EXTENSION);
         this.lines = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.syncScheduled = new AtomicBoolean();
+        this.compacting = new AtomicBoolean();
+        this.changeListeners = new CopyOnWriteArrayList<>();
+        this.journal = new PropertiesJournal(this.absolutePath);
+        this.snapshot = new PropertiesSnapshot(this.absolutePath);
+        this.layout = new PropertiesLayout();
+        this.listDirectory = this.file.toPath().resolveSibling(this.name + PropertiesListSegment.DIRECTORY_EXTENSION);
+        this.listSegments = new ConcurrentHashMap<>();
+        this.fileLock = new Object();
+        this.standardSyncType = StandardSyncType.NONE;
+        this.standardWriteType = StandardWriteType.REWRITE;
+        this.groupCommitDelay = DEFAULT_GROUP_COMMIT_DELAY;
+        this.journalCompactionSize = DEFAULT_JOURNAL_COMPACTION_SIZE;
+        this.journalCompactionDelay = DEFAULT_JOURNAL_COMPACTION_DELAY;
     }
 
     public String getPath() {
@@ -56,6 +129,7 @@ public class PropertiesFile {
         return standardDirectoryCreationType;
     }
 
+    @Override
     public KeyValueSeparator getKeyValueSeparator() {
         return keyValueSeparator;
     }
@@ -65,340 +139,1071 @@ public class PropertiesFile {
     }
 
     public List<String> getLines() {
-        return lines;
+        return Collections.unmodifiableList(lines);
+    }
+
+    public StandardSyncType getStandardSyncType() {
+        return standardSyncType;
+    }
+
+    public PropertiesFile setStandardSyncType(StandardSyncType standardSyncType) {
+        this.standardSyncType = standardSyncType;
+        return this;
+    }
+
+    public long getGroupCommitDelay() {
+        return groupCommitDelay;
+    }
+
+    public PropertiesFile setGroupCommitDelay(long groupCommitDelay) {
+        if(groupCommitDelay <= 0) {
+            throw new IllegalArgumentException("The group commit delay must be positive.");
+        }
+        this.groupCommitDelay = groupCommitDelay;
+        return this;
+    }
+
+    public StandardWriteType getStandardWriteType() {
+        return standardWriteType;
+    }
+
+    public PropertiesFile setStandardWriteType(StandardWriteType standardWriteType) {
+        final StandardWriteType previousWriteType = this.standardWriteType;
+
+        this.standardWriteType = standardWriteType;
+        if(previousWriteType.equals(StandardWriteType.IN_PLACE) && !standardWriteType.equals(StandardWriteType.IN_PLACE) && this.getWasted() > 0) {
+            this.compact();
+        } else if(!standardWriteType.equals(StandardWriteType.JOURNAL)) {
+            this.flush();
+        }
+        return this;
+    }
+
+    private long getWasted() {
+        synchronized(this.fileLock) {
+            return this.layout.getWasted();
+        }
+    }
+
+    public long getJournalCompactionSize() {
+        return journalCompactionSize;
+    }
+
+    public PropertiesFile setJournalCompactionSize(long journalCompactionSize) {
+        if(journalCompactionSize <= 0) {
+            throw new IllegalArgumentException("The journal compaction size must be positive.");
+        }
+        this.journalCompactionSize = journalCompactionSize;
+        return this;
+    }
+
+    public long getJournalCompactionDelay() {
+        return journalCompactionDelay;
+    }
+
+    public PropertiesFile setJournalCompactionDelay(long journalCompactionDelay) {
+        if(journalCompactionDelay <= 0) {
+            throw new IllegalArgumentException("The journal compaction delay must be positive.");
+        }
+        this.journalCompactionDelay = journalCompactionDelay;
+        return this;
+    }
+
+    public int getListSegmentThreshold() {
+        return listSegmentThreshold;
+    }
+
+    public PropertiesFile setListSegmentThreshold(int listSegmentThreshold) {
+        if(listSegmentThreshold < 0) {
+            throw new IllegalArgumentException("The list segment threshold can't be negative.");
+        }
+        this.listSegmentThreshold = listSegmentThreshold;
+        return this;
+    }
+
+    public boolean isShared() {
+        return this.sharedLock != null;
+    }
+
+    public PropertiesFile setShared(boolean shared) {
+        try {
+            if(shared && this.sharedLock == null) {
+                final PropertiesLock sharedLock = PropertiesLock.acquire(this.absolutePath);
+
+                this.sharedVersion = this.isUpToDate() ? sharedLock.getVersion() : -1;
+                this.sharedLock = sharedLock;
+            } else if(!shared && this.sharedLock != null) {
+                this.sharedLock.release();
+                this.sharedLock = null;
+            }
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+        return this;
+    }
+
+    public long getSharedVersion() {
+        return sharedVersion;
     }
 
-    public BufferedReader getBufferedReader() {
-        return bufferedReader;
+    public boolean isStale() {
+        return this.sharedLock == null ? !this.isUpToDate() : this.sharedLock.getVersion() != this.sharedVersion;
     }
 
-    public BufferedWriter getBufferedWriter() {
-        return bufferedWriter;
+    private PropertiesLock lock(boolean shared) {
+        final PropertiesLock sharedLock = this.sharedLock;
+
+        if(sharedLock == null) {
+            return null;
+        }
+        try {
+            sharedLock.lock(shared);
+            return sharedLock;
+        } catch(IOException e) {
+            PropertiesData.log(e);
+            return null;
+        }
     }
 
-    private void resetBufferedReader() {
+    private void unlock(PropertiesLock sharedLock) {
+        if(sharedLock == null) {
+            return;
+        }
         try {
-            this.bufferedReader.close();
-            this.bufferedReader = new BufferedReader(new InputStreamReader(Files.newInputStream(this.file.toPath()), StandardCharsets.UTF_8));
+            sharedLock.unlock();
         } catch(IOException e) {
-            e.printStackTrace();
+            PropertiesData.log(e);
         }
     }
 
     public PropertiesFile load() {
-        final File dir = new File(this.path);
+        final long loadStart = System.nanoTime();
+
+        PropertiesLock sharedLock = null;
+        boolean replayed = false;
 
         try {
-            if(!dir.exists()) {
-                if(this.standardDirectoryCreationType.equals(StandardDirectoryCreationType.CREATE)) {
-                    dir.mkdir();
-                    System.out.println(PropertiesData.getLogsPrefix() + "The directory " + this.absolutePath + " has been created.");
+            this.prepare();
+            sharedLock = this.lock(true);
+            this.lines.clear();
+            this.index.clear();
+            this.updateFileState();
+
+            final long parseStart = System.nanoTime();
+
+            if(!this.snapshot.read(this.lines, this.index, this.keyValueSeparator.getSeparator(), this.lastModified, this.length)) {
+                if(PropertiesParser.isParallel(this.length)) {
+                    PropertiesParser.parseParallel(this.file.toPath(), this.lines, this.index, this.keyValueSeparator.getSeparator());
+                } else {
+                    for(String line : this.readLines()) {
+                        final PropertiesEntry entry = PropertiesEntry.parse(line, this.lines.size(), this.keyValueSeparator.getSeparator());
+
+                        if(entry != null) {
+                            this.index.putIfAbsent(entry.getKey(), entry);
+                        }
+                        this.lines.add(line);
+                    }
                 }
-            } else {
-                System.out.println(PropertiesData.getLogsPrefix() + "No directory created.");
             }
-            if(!this.file.exists()) {
-                this.file.createNewFile();
-                System.out.println(PropertiesData.getLogsPrefix() + "The file " + this.absolutePath + " has been created.");
-            } else {
-                System.out.println(PropertiesData.getLogsPrefix() + "No file created.");
+            final long parseEnd = System.nanoTime();
+
+            this.sortedIndex = null;
+            this.layout.invalidate();
+            this.dirty = false;
+            replayed = this.replayJournal();
+            PropertiesData.getMetrics().onParse(this.absolutePath, parseEnd - parseStart, this.index.size());
+            PropertiesData.getMetrics().onLoad(this.absolutePath, System.nanoTime() - loadStart, this.length);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        } finally {
+            this.unlock(sharedLock);
+        }
+        if(replayed) {
+            this.flush();
+        }
+        return this;
+    }
+
+    public PropertiesFile load(PropertiesFile identical) {
+        if(identical.keyValueSeparator != this.keyValueSeparator || identical.version != identical.writtenVersion) {
+            return this.load();
+        }
+        try {
+            this.prepare();
+            this.lines.clear();
+            this.lines.addAll(identical.lines);
+            this.index.clear();
+            this.index.putAll(identical.index);
+            this.sortedIndex = null;
+            this.layout.invalidate();
+            this.dirty = false;
+            this.updateFileState();
+            if(this.replayJournal()) {
+                this.flush();
             }
-            if(this.standardFileCreationType.equals(StandardFileCreationType.WANTED_FILE_WITH_COPY)) {
-                this.createCopy();
-            } else {
-                System.out.println(PropertiesData.getLogsPrefix() + "No copy created.");
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+        return this;
+    }
+
+    private void prepare() throws IOException {
+        final File dir = new File(this.path);
+
+        if(!dir.exists()) {
+            if(this.standardDirectoryCreationType.equals(StandardDirectoryCreationType.CREATE)) {
+                dir.mkdir();
+                PropertiesData.log("The directory " + this.absolutePath + " has been created.");
             }
-            this.bufferedReader = new BufferedReader(new InputStreamReader(Files.newInputStream(this.file.toPath()), StandardCharsets.UTF_8));
+        } else {
+            PropertiesData.log("No directory created.");
+        }
+        if(this.temporaryFile.exists()) {
+            Files.delete(this.temporaryFile.toPath());
+        }
+        if(this.compactingFile.exists()) {
+            Files.delete(this.compactingFile.toPath());
+        }
+        if(!this.file.exists() && this.standardFileCreationType.equals(StandardFileCreationType.WANTED_FILE_WITH_COPY) && this.copy.exists()) {
+            Files.copy(this.copy.toPath(), this.file.toPath());
+            PropertiesData.log("The file " + this.absolutePath + " has been restored from its copy.");
+        } else if(!this.file.exists()) {
+            this.file.createNewFile();
+            PropertiesData.log("The file " + this.absolutePath + " has been created.");
+        } else {
+            PropertiesData.log("No file created.");
+        }
+        if(this.standardFileCreationType.equals(StandardFileCreationType.WANTED_FILE_WITH_COPY)) {
+            this.createCopy();
+        } else {
+            PropertiesData.log("No copy created.");
+        }
+    }
+
+    private boolean replayJournal() throws IOException {
+        final boolean interrupted = this.journal.hasCompacting();
+        final Map<String, String> records = this.journal.replay();
 
+        if(records.isEmpty()) {
+            return false;
+        }
+        this.applyTo(this.lines, this.index, records);
+        this.sortedIndex = null;
+        this.layout.invalidate();
+        this.version++;
+        this.dirty = true;
+        PropertiesData.log(records.size() + " journal records of " + this.absolutePath + " have been replayed.");
+        return interrupted || this.standardWriteType.equals(StandardWriteType.REWRITE);
+    }
+
+    private List<String> readLines() throws IOException {
+        final List<String> lines = new ArrayList<>();
+
+        try(BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(Files.newInputStream(this.file.toPath()), StandardCharsets.UTF_8))) {
             String line;
-            line = this.bufferedReader.readLine();
+            line = bufferedReader.readLine();
 
             while(line != null) {
-                this.lines.add(line);
-                line = this.bufferedReader.readLine();
-            }
-            this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(this.file.toPath()), StandardCharsets.UTF_8));
-            for(String l : this.lines) {
-                this.bufferedWriter.write(l);
-                this.bufferedWriter.newLine();
+                lines.add(line);
+                line = bufferedReader.readLine();
             }
-            this.resetBufferedReader();
-            this.bufferedWriter.flush();
+        }
+        return lines;
+    }
+
+    private void updateFileState() throws IOException {
+        this.lastModified = Files.getLastModifiedTime(this.file.toPath());
+        this.length = Files.size(this.file.toPath());
+        if(this.sharedLock != null) {
+            this.sharedVersion = this.sharedLock.getVersion();
+        }
+    }
+
+    public boolean isUpToDate() {
+        try {
+            return (this.sharedLock == null || this.sharedLock.getVersion() == this.sharedVersion) && this.lastModified != null && this.lastModified.equals(Files.getLastModifiedTime(this.file.toPath())) && this.length == Files.size(this.file.toPath()) && this.journal.isUpToDate();
         } catch(IOException e) {
-            e.printStackTrace();
+            return false;
         }
+    }
+
+    public PropertiesFile reload() {
+        this.notifyChangeListeners(this.reloadChanges());
         return this;
     }
 
-    private void createCopy() {
-        final File copy = new File(this.path, "copy-" + this.name);
+    List<PropertiesChange> reloadChanges() {
+        if(this.isUpToDate() || !this.file.exists()) {
+            return Collections.emptyList();
+        }
+        final PropertiesLock sharedLock = this.lock(true);
 
         try {
-            if(!copy.exists()) {
-                copy.createNewFile();
-                System.out.println(PropertiesData.getLogsPrefix() + "The copy file " + this.path + "copy-" + this.name + " of " + this.absolutePath + " has been created.");
-            } else {
-                System.out.println(PropertiesData.getLogsPrefix() + "No copy created.");
+            final List<String> newLines = this.readLines();
+            final PropertiesEntry[] entriesByLine = new PropertiesEntry[this.lines.size()];
+            final Map<String, PropertiesEntry> newIndex = new HashMap<>();
+            final List<PropertiesChange> changes = new ArrayList<>();
+
+            for(PropertiesEntry entry : this.index.values()) {
+                entriesByLine[entry.getLine()] = entry;
+            }
+            for(int i = 0; i < newLines.size(); i++) {
+                final String line = newLines.get(i);
+                final PropertiesEntry entry = i < entriesByLine.length && entriesByLine[i] != null && line.equals(this.lines.get(i)) ? entriesByLine[i] : PropertiesEntry.parse(line, i, this.keyValueSeparator.getSeparator());
+
+                if(entry != null) {
+                    newIndex.putIfAbsent(entry.getKey(), entry);
+                }
+            }
+            this.applyTo(newLines, newIndex, this.journal.replay());
+            for(PropertiesEntry entry : newIndex.values()) {
+                final PropertiesEntry oldEntry = this.index.get(entry.getKey());
+
+                if(oldEntry == null || !oldEntry.getValue().equals(entry.getValue())) {
+                    changes.add(new PropertiesChange(entry.getKey(), oldEntry == null ? null : oldEntry.getValue(), entry.getValue()));
+                }
+            }
+            for(PropertiesEntry oldEntry : this.index.values()) {
+                if(!newIndex.containsKey(oldEntry.getKey())) {
+                    changes.add(new PropertiesChange(oldEntry.getKey(), oldEntry.getValue(), null));
+                }
             }
+            this.lines.clear();
+            this.lines.addAll(newLines);
+            this.index.clear();
+            this.index.putAll(newIndex);
+            this.sortedIndex = null;
+            this.layout.invalidate();
+            this.dirty = false;
+            this.updateFileState();
+            PropertiesData.getMetrics().onReload(this.absolutePath, changes.size());
+            return changes;
         } catch(IOException e) {
-            e.printStackTrace();
+            PropertiesData.log(e);
+        } finally {
+            this.unlock(sharedLock);
         }
+        return Collections.emptyList();
+    }
+
+    public void addChangeListener(ChangeListener changeListener) {
+        this.changeListeners.add(changeListener);
+    }
+
+    public void removeChangeListener(ChangeListener changeListener) {
+        this.changeListeners.remove(changeListener);
     }
 
-    private void throwKeyExceptions(String key) {
-        if(key.equals("")) {
-            throw new IllegalArgumentException("You must set a valid String key");
+    void notifyChangeListeners(List<PropertiesChange> changes) {
+        if(this.changeListeners.isEmpty()) {
+            return;
         }
-        else if(key.startsWith(" ")) {
-            throw new IllegalArgumentException("Your String key can't starts with ' '.");
+        for(PropertiesChange change : changes) {
+            for(ChangeListener changeListener : this.changeListeners) {
+                try {
+                    changeListener.onChange(change.getKey(), change.getOldValue(), change.getNewValue());
+                } catch(RuntimeException e) {
+                    PropertiesData.log(e);
+                }
+            }
         }
     }
 
-    public boolean contains(String key) {
-        boolean contains = false;
+    private void createCopy() {
+        try {
+            final boolean existed = this.copy.exists();
 
-        for(int i = 0; i <= 10; i++) {
-            try {
-                switch(i) {
-                    case 0:
-                        this.getString(key);
-                        contains = true;
-                        break;
-                    case 1:
-                        this.getInteger(key);
-                        contains = true;
-                        break;
-                    case 2:
-                        this.getDouble(key);
-                        contains = true;
-                        break;
-                    case 3:
-                        this.getFloat(key);
-                        contains = true;
-                        break;
-                    case 4:
-                        this.getBoolean(key);
-                        contains = true;
-                        break;
-                    case 5:
-                        this.getStringList(key);
-                        contains = true;
-                        break;
-                    case 6:
-                        this.getIntegerList(key);
-                        contains = true;
-                        break;
-                    case 7:
-                        this.getDoubleList(key);
-                        contains = true;
-                        break;
-                    case 8:
-                        this.getFloatList(key);
-                        contains = true;
-                        break;
-                    default:
-                        this.getBooleanList(key);
-                        contains = true;
-                        break;
-                }
-            } catch(IllegalArgumentException ignored) {
+            Files.copy(this.file.toPath(), this.copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            if(!existed) {
+                PropertiesData.log("The copy file " + this.path + "copy-" + this.name + " of " + this.absolutePath + " has been created.");
+            } else {
+                PropertiesData.log("The copy file " + this.path + "copy-" + this.name + " of " + this.absolutePath + " has been updated.");
             }
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(this.index.keySet());
+    }
+
+    SortedIndex getSortedIndex() {
+        if(this.sortedIndex == null) {
+            this.sortedIndex = new SortedIndex(this.index);
         }
-        return contains;
+        return this.sortedIndex;
+    }
+
+    public Stream<PropertiesEntry> entries() {
+        return this.getSortedIndex().entries(null, null);
+    }
+
+    public Stream<PropertiesEntry> entries(String fromKey, String toKey) {
+        return this.getSortedIndex().entries(fromKey, toKey);
+    }
+
+    public void forEachWithPrefix(String prefix, Consumer<PropertiesEntry> consumer) {
+        this.getSortedIndex().forEachWithPrefix(prefix, consumer);
+    }
+
+    Map<String, PropertiesEntry> getIndex() {
+        return index;
     }
 
-    private String getStringWithQuotationMarksCondition(String key, boolean withQuotationMarks) {
+    PropertiesEntry getEntry(String key) {
+        return this.index.get(key);
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.isValidKey(key) && this.getEntry(key) != null;
+    }
+
+    @Override
+    protected String getRawValue(String key) {
+        final PropertiesEntry entry = this.getEntry(key);
+        final PropertiesMetrics metrics = PropertiesData.getMetrics();
+
+        if(metrics != PropertiesMetrics.NONE) {
+            metrics.onGet(this.absolutePath, entry != null);
+        }
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    protected ValueType getRawType(String key) {
+        final PropertiesEntry entry = this.getEntry(key);
+
+        return entry == null ? null : entry.getType();
+    }
+
+    @Override
+    protected <T> T getParsedValue(String key, Function<String, T> parser) {
         this.throwKeyExceptions(key);
-        String line;
+        final PropertiesEntry entry = this.getEntry(key);
+
+        if(entry == null) {
+            return super.getParsedValue(key, parser);
+        }
+        final PropertiesMetrics metrics = PropertiesData.getMetrics();
+
+        if(metrics != PropertiesMetrics.NONE) {
+            metrics.onGet(this.absolutePath, true);
+        }
+        if(parser instanceof ListParser && PropertiesListSegment.isReference(entry.getValue())) {
+            return this.getListSegmentView(key, entry.getValue(), (ListParser<?>) parser);
+        }
+        return entry.getParsedValue(parser);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getListSegmentView(String key, String reference, ListParser<?> parser) {
+        return (T) parser.view(this.getListSegment(key, reference, parser.getType()));
+    }
+
+    @Override
+    PropertiesListSegment getListSegment(String key, CharSequence value, ValueType type) {
+        return PropertiesListSegment.resolve(this.listSegments, this.listDirectory, key, value, type);
+    }
+
+    static String formatValue(Object value, boolean withQuotationMarks) {
+        return withQuotationMarks ? "\"" + value + "\"" : String.valueOf(value);
+    }
 
+    static String formatList(List<?> value, boolean withQuotationMarks) {
+        final StringBuilder finalValue = new StringBuilder();
+
+        finalValue.append("[");
+        for(Object element : value) {
+            if(finalValue.length() > 1) {
+                finalValue.append(", ");
+            }
+            if(withQuotationMarks) {
+                PropertiesTokenizer.appendQuoted(finalValue, String.valueOf(element));
+            } else {
+                finalValue.append(element);
+            }
+        }
+        return finalValue.append("]").toString();
+    }
+
+    void apply(Map<String, String> changes) {
+        this.notifyChangeListeners(this.applyChanges(changes));
+    }
+
+    List<PropertiesChange> applyChanges(Map<String, String> changes) {
+        final PropertiesLock sharedLock = this.lock(false);
+
+        if(sharedLock == null) {
+            return this.applyLocalChanges(changes);
+        }
         try {
-            line = this.bufferedReader.readLine();
+            final List<PropertiesChange> reloadedChanges = this.reloadChanges();
+            final List<PropertiesChange> appliedChanges = this.applyLocalChanges(changes);
 
-            while(line != null) {
-                if(line.contains(this.keyValueSeparator.getSeparator())) {
-                    final String[] keyValueArray = line.split(this.keyValueSeparator.getSeparator());
+            if(!this.standardWriteType.equals(StandardWriteType.JOURNAL) || this.isJournalCompactionDue()) {
+                this.flushLocally();
+            }
+            if(!appliedChanges.isEmpty()) {
+                this.sharedVersion = sharedLock.increment();
+            }
+            if(reloadedChanges.isEmpty()) {
+                return appliedChanges;
+            }
+            final List<PropertiesChange> allChanges = new ArrayList<>(reloadedChanges);
+
+            allChanges.addAll(appliedChanges);
+            return allChanges;
+        } finally {
+            this.unlock(sharedLock);
+        }
+    }
+
+    private List<PropertiesChange> applyLocalChanges(Map<String, String> changes) {
+        if(this.standardWriteType.equals(StandardWriteType.IN_PLACE)) {
+            final List<PropertiesChange> appliedChanges = this.applyInPlace(changes);
+
+            if(appliedChanges != null) {
+                return appliedChanges;
+            }
+        }
+        final List<PropertiesChange> appliedChanges = this.applyTo(this.lines, this.index, changes);
+
+        if(appliedChanges.isEmpty()) {
+            return appliedChanges;
+        }
+        this.sortedIndex = null;
+        this.layout.invalidate();
+        this.version++;
+        this.dirty = true;
+        this.persist(appliedChanges);
+        return appliedChanges;
+    }
+
+    private List<PropertiesChange> applyInPlace(Map<String, String> changes) {
+        final List<PropertiesChange> appliedChanges = new ArrayList<>(changes.size());
+        final Iterator<Map.Entry<String, String>> iterator = changes.entrySet().iterator();
+        final long start = System.nanoTime();
+        Map.Entry<String, String> change = null;
+        long bytesWritten = 0;
 
-                    if(keyValueArray[0].equals(key)) {
-                        if(keyValueArray.length >= 3) {
-                            for(int i = 2; i < keyValueArray.length; i++) {
-                                keyValueArray[1] += this.keyValueSeparator.getSeparator() + keyValueArray[i];
+        synchronized(this.fileLock) {
+            try {
+                if(this.version != this.writtenVersion || !this.isUpToDate()) {
+                    return null;
+                }
+                if(!this.layout.isValid()) {
+                    if(!this.layout.compute(this.file.toPath(), this.lines, this.length)) {
+                        return null;
+                    }
+                    this.shadowedKeys = this.findShadowedKeys();
+                }
+                for(String key : changes.keySet()) {
+                    if(this.shadowedKeys.contains(key)) {
+                        return null;
+                    }
+                }
+                try(FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.WRITE)) {
+                    while(iterator.hasNext()) {
+                        change = iterator.next();
+                        final String key = change.getKey();
+                        final String value = change.getValue();
+                        final PropertiesEntry entry = this.index.get(key);
+
+                        if(value == null) {
+                            if(entry != null) {
+                                bytesWritten += this.removeInPlace(channel, entry.getLine());
+                                this.index.remove(key);
+                                appliedChanges.add(new PropertiesChange(key, entry.getValue(), null));
                             }
+                            continue;
                         }
-                        this.resetBufferedReader();
-                        if(withQuotationMarks) {
-                            if(keyValueArray[1].startsWith("\"") && keyValueArray[1].endsWith("\"")) {
-                                return keyValueArray[1].substring(1, keyValueArray[1].length() - 1);
-                            } else {
-                                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your value must include \" at end and the beginning.");
-                            }
+                        if(entry != null && entry.getValue().equals(value)) {
+                            continue;
+                        }
+                        final String line = key + this.keyValueSeparator.getSeparator() + value;
+                        final int length = PropertiesLayout.utf8Length(line);
+
+                        if(entry != null && this.fitsInPlace(entry.getLine(), value, length)) {
+                            final String oldLine = this.lines.get(entry.getLine());
+                            final String paddedLine = PropertiesLayout.pad(line, this.layout.getLength(entry.getLine()));
+
+                            bytesWritten += this.layout.write(channel, entry.getLine(), paddedLine);
+                            this.layout.addWasted(PropertiesLayout.contentLength(oldLine) - length);
+                            this.lines.set(entry.getLine(), paddedLine);
+                            this.index.put(key, new PropertiesEntry(key, value, entry.getLine()));
                         } else {
-                            return keyValueArray[1];
+                            if(entry != null) {
+                                bytesWritten += this.removeInPlace(channel, entry.getLine());
+                            }
+                            bytesWritten += this.layout.append(channel, line);
+                            this.index.put(key, new PropertiesEntry(key, value, this.lines.size()));
+                            this.lines.add(line);
                         }
+                        appliedChanges.add(new PropertiesChange(key, entry == null ? null : entry.getValue(), value));
+                    }
+                    change = null;
+                    if(this.standardSyncType.equals(StandardSyncType.ON_COMMIT)) {
+                        channel.force(true);
                     }
                 }
-                line = this.bufferedReader.readLine();
+                this.updateFileState();
+                PropertiesData.getMetrics().onWrite(this.absolutePath, System.nanoTime() - start, bytesWritten);
+                if(!appliedChanges.isEmpty()) {
+                    this.version++;
+                    this.writtenVersion = this.version;
+                    this.sortedIndex = null;
+                }
+            } catch(IOException e) {
+                PropertiesData.log(e);
+                return this.rewriteAfterFailure(appliedChanges, change, iterator);
+            }
+        }
+        if(this.standardSyncType.equals(StandardSyncType.GROUP_COMMIT) && !appliedChanges.isEmpty() && this.syncScheduled.compareAndSet(false, true)) {
+            SYNC_EXECUTOR.schedule(this::sync, this.groupCommitDelay, TimeUnit.MILLISECONDS);
+        }
+        if(this.isLayoutCompactionDue()) {
+            this.compactLines();
+            if(this.sharedLock == null) {
+                try {
+                    this.compactInBackground(this.lines, this.version);
+                } catch(IOException e) {
+                    PropertiesData.log(e);
+                }
             }
-        } catch(IOException e) {
-            e.printStackTrace();
         }
-        this.resetBufferedReader();
-        throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.keyValueSeparator.getSeparator() + "'.");
+        return appliedChanges;
     }
 
-    public String getString(String key) {
-        return this.getStringWithQuotationMarksCondition(key, true);
+    private boolean fitsInPlace(int line, String value, int length) {
+        final int slotLength = this.layout.getLength(line);
+
+        return length == slotLength || (length < slotLength && PropertiesLayout.isDelimited(value, 0, value.length()));
     }
 
-    public int getInteger(String key) {
-        return Integer.parseInt(this.getStringWithQuotationMarksCondition(key, false));
+    private boolean isLayoutCompactionDue() {
+        synchronized(this.fileLock) {
+            return this.layout.getWasted() * 2 > this.layout.getEnd();
+        }
     }
 
-    public double getDouble(String key) {
-        return Double.parseDouble(this.getStringWithQuotationMarksCondition(key, false));
+    private List<PropertiesChange> rewriteAfterFailure(List<PropertiesChange> appliedChanges, Map.Entry<String, String> failedChange, Iterator<Map.Entry<String, String>> remainingChanges) {
+        final Map<String, String> changes = new LinkedHashMap<>();
+
+        if(failedChange != null) {
+            changes.put(failedChange.getKey(), failedChange.getValue());
+        }
+        while(remainingChanges.hasNext()) {
+            final Map.Entry<String, String> change = remainingChanges.next();
+
+            changes.put(change.getKey(), change.getValue());
+        }
+        appliedChanges.addAll(this.applyTo(this.lines, this.index, changes));
+        this.layout.invalidate();
+        this.sortedIndex = null;
+        if(!appliedChanges.isEmpty()) {
+            this.version++;
+            this.dirty = true;
+            this.persist(appliedChanges);
+        }
+        return appliedChanges;
     }
 
-    public float getFloat(String key) {
-        return Float.parseFloat(this.getStringWithQuotationMarksCondition(key, false));
+    private Set<String> findShadowedKeys() {
+        final Set<String> shadowedKeys = new HashSet<>();
+
+        for(int i = 0; i < this.lines.size(); i++) {
+            final PropertiesEntry entry = PropertiesEntry.parse(this.lines.get(i), i, this.keyValueSeparator.getSeparator());
+
+            if(entry != null) {
+                final PropertiesEntry indexedEntry = this.index.get(entry.getKey());
+
+                if(indexedEntry != null && indexedEntry.getLine() != i) {
+                    shadowedKeys.add(entry.getKey());
+                }
+            }
+        }
+        return shadowedKeys;
     }
 
-    public boolean getBoolean(String key) {
-        return Boolean.parseBoolean(this.getStringWithQuotationMarksCondition(key, false));
+    private int removeInPlace(FileChannel channel, int line) throws IOException {
+        final String oldLine = this.lines.get(line);
+        final String tombstone = PropertiesLayout.tombstone(this.layout.getLength(line));
+        final int bytesWritten = this.layout.write(channel, line, tombstone);
+
+        this.layout.addWasted(PropertiesLayout.contentLength(oldLine) + this.layout.getTerminatorLength());
+        this.lines.set(line, tombstone);
+        return bytesWritten;
     }
 
-    private List<String> getStringListWithQuotationMarksCondition(String key, boolean withQuotationMarks) {
-        this.throwKeyExceptions(key);
-        String line;
+    public void compact() {
+        final PropertiesLock sharedLock = this.lock(false);
 
         try {
-            line = this.bufferedReader.readLine();
+            if(sharedLock != null) {
+                this.notifyChangeListeners(this.reloadChanges());
+            }
+            this.compactLines();
+            this.flushLocally();
+            if(sharedLock != null) {
+                this.sharedVersion = sharedLock.increment();
+            }
+            this.deleteUnusedListSegments();
+        } finally {
+            this.unlock(sharedLock);
+        }
+    }
 
-            while(line != null) {
-                if(line.contains(this.keyValueSeparator.getSeparator())) {
-                    final String[] keyValueArray = line.split(this.keyValueSeparator.getSeparator());
+    private void deleteUnusedListSegments() {
+        final Set<String> usedNames = new HashSet<>();
 
-                    if(keyValueArray[0].equals(key)) {
-                        if(keyValueArray.length >= 3) {
-                            for(int i = 2; i < keyValueArray.length; i++) {
-                                keyValueArray[1] += this.keyValueSeparator.getSeparator() + keyValueArray[i];
-                            }
-                        }
-                        if(keyValueArray[1].startsWith("[") && keyValueArray[1].endsWith("]")) {
-                            final String[] bruteElements = keyValueArray[1].substring(1, keyValueArray[1].length() - 1).split(", ");
-                            final List<String> elements = new ArrayList<>(Arrays.asList(bruteElements));
-
-                            this.resetBufferedReader();
-                            if(withQuotationMarks) {
-                                boolean mustDeclareException = false;
-
-                                for(String s : elements) {
-                                    if(!(s.startsWith("\"") && s.endsWith("\""))) {
-                                        mustDeclareException = true;
-                                        break;
-                                    }
-                                }
-                                if(!mustDeclareException) {
-                                    elements.replaceAll(s -> s.substring(1, s.length() - 1));
-                                } else {
-                                    throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Your element of your array must include \" at end and the beginning.");
-                                }
-                            }
-                            return elements;
-                        }
-                        throw new IllegalArgumentException("Your value must include a [ and a ] at the end and the beginning");
-                    }
-                }
-                line = this.bufferedReader.readLine();
+        for(PropertiesEntry entry : this.index.values()) {
+            if(PropertiesListSegment.isReference(entry.getValue())) {
+                usedNames.add(PropertiesListSegment.getName(entry.getValue()));
             }
-        } catch(IOException e) {
-            e.printStackTrace();
         }
-        this.resetBufferedReader();
-        throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.keyValueSeparator.getSeparator() + "'.");
+        this.listSegments.keySet().retainAll(usedNames);
+        PropertiesListSegment.deleteUnused(this.listDirectory, usedNames);
     }
 
-    public List<String> getStringList(String key) {
-        return this.getStringListWithQuotationMarksCondition(key, true);
+    private void compactLines() {
+        final List<String> compactedLines = new ArrayList<>(this.lines.size());
+
+        for(String line : this.lines) {
+            if(PropertiesLayout.isTombstone(line)) {
+                continue;
+            }
+            final PropertiesEntry entry = PropertiesEntry.parse(line, compactedLines.size(), this.keyValueSeparator.getSeparator());
+
+            compactedLines.add(entry == null ? line : entry.getKey() + this.keyValueSeparator.getSeparator() + entry.getValue());
+        }
+        this.lines.clear();
+        this.index.clear();
+        for(String line : compactedLines) {
+            final PropertiesEntry entry = PropertiesEntry.parse(line, this.lines.size(), this.keyValueSeparator.getSeparator());
+
+            if(entry != null) {
+                this.index.putIfAbsent(entry.getKey(), entry);
+            }
+            this.lines.add(line);
+        }
+        this.sortedIndex = null;
+        this.layout.invalidate();
+        this.version++;
+        this.dirty = true;
     }
 
-    public List<Integer> getIntegerList(String key) {
-        final List<Integer> list = new ArrayList<>();
+    void persist(List<PropertiesChange> changes) {
+        try {
+            this.write(changes, this.lines, this.version);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
 
-        for(String s : this.getStringListWithQuotationMarksCondition(key, false)) {
-            list.add(Integer.parseInt(s));
+    void write(List<PropertiesChange> changes, List<String> lines, long version) throws IOException {
+        if(this.standardWriteType.equals(StandardWriteType.JOURNAL)) {
+            this.appendJournal(changes, lines, version);
+        } else {
+            this.writeVersion(lines, version);
         }
-        return list;
     }
 
-    public List<Double> getDoubleList(String key) {
-        final List<Double> list = new ArrayList<>();
+    long getVersion() {
+        return version;
+    }
+
+    private List<PropertiesChange> applyTo(List<String> lines, Map<String, PropertiesEntry> index, Map<String, String> changes) {
+        if(changes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Set<String> removedKeys = new HashSet<>();
+        final List<PropertiesChange> appliedChanges = new ArrayList<>(changes.size());
+
+        for(Map.Entry<String, String> change : changes.entrySet()) {
+            final String key = change.getKey();
+            final String value = change.getValue();
+
+            if(value == null) {
+                final PropertiesEntry removedEntry = index.remove(key);
 
-        for(String s : this.getStringListWithQuotationMarksCondition(key, false)) {
-            list.add(Double.parseDouble(s));
+                if(removedEntry != null) {
+                    removedKeys.add(key);
+                    appliedChanges.add(new PropertiesChange(key, removedEntry.getValue(), null));
+                }
+                continue;
+            }
+            final String line = key + this.keyValueSeparator.getSeparator() + value;
+            final PropertiesEntry entry = index.get(key);
+
+            if(entry != null) {
+                if(entry.getValue().equals(value)) {
+                    continue;
+                }
+                lines.set(entry.getLine(), line);
+                index.put(key, new PropertiesEntry(key, value, entry.getLine()));
+            } else {
+                index.put(key, new PropertiesEntry(key, value, lines.size()));
+                lines.add(line);
+            }
+            appliedChanges.add(new PropertiesChange(key, entry == null ? null : entry.getValue(), value));
         }
-        return list;
+        if(!removedKeys.isEmpty()) {
+            this.removeLines(lines, index, removedKeys);
+        }
+        return appliedChanges;
     }
 
-    public List<Float> getFloatList(String key) {
-        final List<Float> list = new ArrayList<>();
+    private void removeLines(List<String> lines, Map<String, PropertiesEntry> index, Set<String> removedKeys) {
+        final PropertiesEntry[] entriesByLine = new PropertiesEntry[lines.size()];
+        final List<String> remainingLines = new ArrayList<>(lines.size());
+
+        for(PropertiesEntry entry : index.values()) {
+            entriesByLine[entry.getLine()] = entry;
+        }
+        for(int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
+            final PropertiesEntry entry = entriesByLine[i];
+
+            if(entry == null) {
+                final PropertiesEntry shadowedEntry = PropertiesEntry.parse(line, i, this.keyValueSeparator.getSeparator());
 
-        for(String s : this.getStringListWithQuotationMarksCondition(key, false)) {
-            list.add(Float.parseFloat(s));
+                if(shadowedEntry != null && removedKeys.contains(shadowedEntry.getKey())) {
+                    continue;
+                }
+            } else if(entry.getLine() != remainingLines.size()) {
+                index.put(entry.getKey(), entry.withLine(remainingLines.size()));
+            }
+            remainingLines.add(line);
         }
-        return list;
+        lines.clear();
+        lines.addAll(remainingLines);
     }
 
-    public List<Boolean> getBooleanList(String key) {
-        final List<Boolean> list = new ArrayList<>();
+    private void appendJournal(List<PropertiesChange> changes, List<String> lines, long version) throws IOException {
+        synchronized(this.fileLock) {
+            if(version <= this.writtenVersion) {
+                return;
+            }
+            final long start = System.nanoTime();
+            final long size = this.journal.getSize();
 
-        for(String s : this.getStringListWithQuotationMarksCondition(key, false)) {
-            list.add(Boolean.parseBoolean(s));
+            this.journal.append(changes, this.standardSyncType.equals(StandardSyncType.ON_COMMIT));
+            if(this.sharedLock != null) {
+                this.journal.close();
+            }
+            PropertiesData.getMetrics().onWrite(this.absolutePath, System.nanoTime() - start, this.journal.getSize() - size);
+        }
+        if(this.standardSyncType.equals(StandardSyncType.GROUP_COMMIT) && this.syncScheduled.compareAndSet(false, true)) {
+            SYNC_EXECUTOR.schedule(this::sync, this.groupCommitDelay, TimeUnit.MILLISECONDS);
+        }
+        if(this.sharedLock == null && this.isJournalCompactionDue()) {
+            this.compactInBackground(lines, version);
         }
-        return list;
     }
 
-    private <V> void setStringWithQuotationMarksCondition(String key, V value, boolean withQuotationMarks) {
-        this.throwKeyExceptions(key);
+    private boolean isJournalCompactionDue() {
+        return this.journal.getSize() >= this.journalCompactionSize || this.journal.getAge() >= this.journalCompactionDelay;
+    }
+
+    private void compactInBackground(List<String> lines, long version) throws IOException {
+        if(!this.compacting.compareAndSet(false, true)) {
+            return;
+        }
+        final List<String> snapshot = new ArrayList<>(lines);
+        final long snapshotVersion = version;
+
         try {
-            if(!this.lines.isEmpty()) {
-                boolean containsLine = false;
-
-                for(String line : this.lines) {
-                    if(line.contains(this.keyValueSeparator.getSeparator())) {
-                        final String[] keyValueArray = line.split(this.keyValueSeparator.getSeparator());
-
-                        if(keyValueArray[0].equals(key)) {
-                            if(keyValueArray.length >= 3) {
-                                for(int i = 2; i < keyValueArray.length; i++) {
-                                    keyValueArray[1] += this.keyValueSeparator.getSeparator() + keyValueArray[i];
-                                }
-                            }
-                            containsLine = true;
-                            this.lines.set(this.lines.indexOf(line), withQuotationMarks ? keyValueArray[0] + this.keyValueSeparator.getSeparator() + "\"" + value + "\"" : keyValueArray[0] + this.keyValueSeparator.getSeparator() + value);
-                        }
+            synchronized(this.fileLock) {
+                this.journal.rotate();
+            }
+        } catch(IOException e) {
+            this.compacting.set(false);
+            throw e;
+        }
+        SYNC_EXECUTOR.execute(() -> {
+            final long start = System.nanoTime();
+
+            try {
+                this.writeTemporary(this.compactingFile.toPath(), snapshot);
+                synchronized(this.fileLock) {
+                    if(snapshotVersion > this.writtenVersion) {
+                        this.replaceWith(this.compactingFile.toPath(), snapshotVersion, start);
+                    } else {
+                        Files.deleteIfExists(this.compactingFile.toPath());
                     }
+                    this.journal.deleteCompacting();
                 }
-                final String line = withQuotationMarks ? key + this.keyValueSeparator.getSeparator() + "\"" + value + "\"" :  key + this.keyValueSeparator.getSeparator() + value;
+            } catch(IOException e) {
+                PropertiesData.log(e);
+            } finally {
+                this.compacting.set(false);
+            }
+        });
+    }
 
-                if(!containsLine) {
-                    this.lines.add(line);
-                }
-                this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(this.file.toPath()), StandardCharsets.UTF_8));
-                for(String l : this.lines) {
-                    this.bufferedWriter.write(l);
-                    this.bufferedWriter.newLine();
-                }
-            } else {
-                final String line = withQuotationMarks ? key + this.keyValueSeparator.getSeparator() + "\"" + value + "\"" :  key + this.keyValueSeparator.getSeparator() + value;
+    public void exportSnapshot() {
+        try {
+            this.flush();
+            this.snapshot.write(this.lines, this.index, this.keyValueSeparator.getSeparator(), this.lastModified, this.length);
+            PropertiesData.log("The snapshot " + this.snapshot.getPath() + " of " + this.absolutePath + " has been exported.");
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    public void remove(String key) {
+        this.setValue(key, null);
+    }
+
+    public int removeAll(String prefix) {
+        final Map<String, String> changes = new LinkedHashMap<>();
 
-                this.lines.add(line);
-                this.bufferedWriter.write(line);
+        this.forEachWithPrefix(prefix, entry -> changes.put(entry.getKey(), null));
+        this.apply(changes);
+        return changes.size();
+    }
+
+    public PropertiesEditor edit() {
+        return new PropertiesEditor(this);
+    }
+
+    public PropertiesFile batch(Consumer<PropertiesEditor> operations) {
+        final PropertiesEditor editor = this.edit();
+
+        operations.accept(editor);
+        editor.commit();
+        return this;
+    }
+
+    public void flush() {
+        final PropertiesLock sharedLock = this.lock(false);
+
+        if(sharedLock == null) {
+            this.flushLocally();
+            return;
+        }
+        try {
+            if(this.dirty && sharedLock.getVersion() == this.sharedVersion) {
+                this.flushLocally();
+                this.sharedVersion = sharedLock.increment();
             }
-            this.bufferedWriter.flush();
+        } finally {
+            this.unlock(sharedLock);
+        }
+    }
+
+    private void flushLocally() {
+        if(!this.dirty) {
             return;
+        }
+        try {
+            final long start = System.nanoTime();
+
+            this.writeVersion(this.lines, this.version);
+            this.dirty = false;
+            PropertiesData.getMetrics().onFlush(this.absolutePath, System.nanoTime() - start);
         } catch(IOException e) {
-            e.printStackTrace();
+            PropertiesData.log(e);
+        }
+    }
+
+    private void writeVersion(List<String> lines, long version) throws IOException {
+        synchronized(this.fileLock) {
+            if(version > this.writtenVersion) {
+                this.writeLines(lines, version);
+                this.journal.clear();
+                if(this.writtenVersion == this.version) {
+                    this.dirty = false;
+                }
+            }
+        }
+    }
+
+    private void writeLines(List<String> lines, long version) throws IOException {
+        final long start = System.nanoTime();
+
+        this.writeTemporary(this.temporaryFile.toPath(), lines);
+        this.replaceWith(this.temporaryFile.toPath(), version, start);
+    }
+
+    private void writeTemporary(Path temporary, List<String> lines) throws IOException {
+        try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final BufferedWriter bufferedWriter = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1));
+
+            for(String line : lines) {
+                bufferedWriter.write(line);
+                bufferedWriter.newLine();
+            }
+            bufferedWriter.flush();
+            if(this.standardSyncType.equals(StandardSyncType.ON_COMMIT)) {
+                channel.force(true);
+            }
         }
-        throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.keyValueSeparator.getSeparator() + "'.");
+    }
+
+    private void replaceWith(Path temporary, long version, long start) throws IOException {
+        final Path target = this.file.toPath();
+
+        if(this.standardFileCreationType.equals(StandardFileCreationType.WANTED_FILE_WITH_COPY) && this.file.exists()) {
+            Files.copy(target, this.copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch(AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.writtenVersion = version;
+        this.layout.invalidate();
+        this.updateFileState();
+        PropertiesData.getMetrics().onWrite(this.absolutePath, System.nanoTime() - start, this.length);
+        if(this.standardSyncType.equals(StandardSyncType.ON_COMMIT)) {
+            this.syncDirectory();
+        } else if(this.standardSyncType.equals(StandardSyncType.GROUP_COMMIT) && this.syncScheduled.compareAndSet(false, true)) {
+            SYNC_EXECUTOR.schedule(this::sync, this.groupCommitDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void sync() {
+        this.syncScheduled.set(false);
+        this.journal.force();
+        try(FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+        this.syncDirectory();
+    }
+
+    private void syncDirectory() {
+        try(FileChannel channel = FileChannel.open(this.file.getAbsoluteFile().getParentFile().toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch(IOException ignored) {
+        }
+    }
+
+    @Override
+    public void close() {
+        this.flush();
+        if(this.syncScheduled.get()) {
+            this.sync();
+        }
+        this.setShared(false);
+        try {
+            this.journal.close();
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    private void setValue(String key, String value) {
+        this.throwKeyExceptions(key);
+        this.apply(Collections.singletonMap(key, value));
+    }
+
+    private <V> void setStringWithQuotationMarksCondition(String key, V value, boolean withQuotationMarks) {
+        this.setValue(key, formatValue(value, withQuotationMarks));
     }
 
     public void setString(String key, String value) {
@@ -421,74 +1226,53 @@ public class PropertiesFile {
         this.setStringWithQuotationMarksCondition(key, value, false);
     }
 
-    private <V> void setStringListWithQuotationMarksCondition(String key, List<V> value, boolean withQuotationMarks) {
-        this.throwKeyExceptions(key);
-        final StringBuilder finalValue = new StringBuilder();
-
-        finalValue.append("[");
-        for(V element : value) {
-            finalValue.append(withQuotationMarks ? "\"" : "").append(element).append(withQuotationMarks ? "\"" : "").append(", ");
-        }
-        finalValue.append("]");
-        final String lineToAdd = key + this.keyValueSeparator.getSeparator() + finalValue.deleteCharAt(finalValue.toString().length() - 3).deleteCharAt(finalValue.toString().length() - 2);
-
-        try {
-            boolean containsLine = false;
-
-            if(!this.lines.isEmpty()) {
-                for(String line : this.lines) {
-                    if(line.contains(this.keyValueSeparator.getSeparator())) {
-                        final String[] keyValueArray = line.split(this.keyValueSeparator.getSeparator());
-
-                        if(keyValueArray[0].equals(key)) {
-                             if(keyValueArray.length >= 3) {
-                                for(int i = 2; i < keyValueArray.length; i++) {
-                                    keyValueArray[1] += this.keyValueSeparator.getSeparator() + keyValueArray[i];
-                                }
-                            }
-                            containsLine = true;
-                            this.lines.set(this.lines.indexOf(line), lineToAdd);
-                        }
-                    }
-                }
-                if(!containsLine) {
-                    this.lines.add(lineToAdd);
-                }
-                this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(this.file.toPath()), StandardCharsets.UTF_8));
-                for(String line : this.lines) {
-                    this.bufferedWriter.write(line);
-                    this.bufferedWriter.newLine();
-                }
-            } else {
-                this.lines.add(lineToAdd);
-                this.bufferedWriter.write(lineToAdd);
+    String formatList(List<?> value, boolean withQuotationMarks, ValueType type) {
+        if(this.listSegmentThreshold > 0 && value.size() >= this.listSegmentThreshold) {
+            try {
+                return PropertiesListSegment.write(this.listDirectory, type, value);
+            } catch(IOException e) {
+                PropertiesData.log(e);
             }
-            this.bufferedWriter.flush();
-            return;
-        } catch(IOException e) {
-            e.printStackTrace();
         }
-        throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + key + "' or key value separator '" + this.keyValueSeparator.getSeparator() + "'.");
+        return formatList(value, withQuotationMarks);
+    }
+
+    private <V> void setStringListWithQuotationMarksCondition(String key, List<V> value, boolean withQuotationMarks, ValueType type) {
+        this.setValue(key, this.formatList(value, withQuotationMarks, type));
     }
 
     public void setStringList(String key, List<String> list) {
-        this.setStringListWithQuotationMarksCondition(key, list, true);
+        this.setStringListWithQuotationMarksCondition(key, list, true, ValueType.STRING_LIST);
     }
 
     public void setIntegerList(String key, List<Integer> list) {
-        this.setStringListWithQuotationMarksCondition(key, list, false);
+        this.setStringListWithQuotationMarksCondition(key, list, false, ValueType.INTEGER_LIST);
     }
 
     public void setDoubleList(String key, List<Double> list) {
-        this.setStringListWithQuotationMarksCondition(key, list, false);
+        this.setStringListWithQuotationMarksCondition(key, list, false, ValueType.DOUBLE_LIST);
     }
 
     public void setFloatList(String key, List<Float> list) {
-        this.setStringListWithQuotationMarksCondition(key, list, false);
+        this.setStringListWithQuotationMarksCondition(key, list, false, ValueType.DOUBLE_LIST);
     }
 
     public void setBooleanList(String key, List<Boolean> list) {
-        this.setStringListWithQuotationMarksCondition(key, list, false);
+        this.setStringListWithQuotationMarksCondition(key, list, false, ValueType.BOOLEAN_LIST);
+    }
+
+    public PropertiesRecord bind(PropertiesSchema schema) {
+        final Map<String, String> defaults = new LinkedHashMap<>();
+
+        for(PropertiesSchema.Slot slot : schema.slots().values()) {
+            if(!this.contains(slot.getKey())) {
+                defaults.put(slot.getKey(), slot.formatDefault());
+            }
+        }
+        if(!defaults.isEmpty()) {
+            this.apply(defaults);
+        }
+        return new PropertiesRecord(this, schema);
     }
 
     public void setDefaultString(String key, String value) {
@@ -0,0 +1,191 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class PropertiesJournal {
+
+    static final String FILE_EXTENSION = ".journal";
+    static final String COMPACTING_FILE_EXTENSION = ".compacting";
+
+    private static final char SET = '+', REMOVE = '-', COMMIT = '!';
+
+    private final Path path, compactingPath;
+    private volatile FileChannel channel;
+    private long size, firstAppend;
+
+    PropertiesJournal(String absolutePath) {
+        this.path = Paths.get(absolutePath + FILE_EXTENSION);
+        this.compactingPath = Paths.get(absolutePath + FILE_EXTENSION + COMPACTING_FILE_EXTENSION);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    long getAge() {
+        return this.firstAppend == 0 ? 0 : System.currentTimeMillis() - this.firstAppend;
+    }
+
+    boolean hasCompacting() {
+        return Files.exists(this.compactingPath);
+    }
+
+    boolean isUpToDate() {
+        try {
+            return Files.exists(this.path) ? Files.size(this.path) == this.size : this.size == 0;
+        } catch(IOException e) {
+            return false;
+        }
+    }
+
+    Map<String, String> replay() throws IOException {
+        final Map<String, String> records = new LinkedHashMap<>();
+
+        replay(this.compactingPath, records);
+        replay(this.path, records);
+        this.size = Files.exists(this.path) ? Files.size(this.path) : 0;
+        this.firstAppend = this.size == 0 ? 0 : System.currentTimeMillis();
+        return records;
+    }
+
+    private static void replay(Path path, Map<String, String> records) throws IOException {
+        if(!Files.exists(path)) {
+            return;
+        }
+        final String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        final Map<String, String> pendingRecords = new LinkedHashMap<>();
+        int start = 0, end;
+
+        while((end = content.indexOf('\n', start)) != -1) {
+            if(end > start && content.charAt(start) == COMMIT) {
+                records.putAll(pendingRecords);
+                pendingRecords.clear();
+            } else if(end > start) {
+                decode(content, start, end, pendingRecords);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static void decode(String content, int start, int end, Map<String, String> records) {
+        final char operation = content.charAt(start);
+        final int space = content.indexOf(' ', start);
+
+        if((operation != SET && operation != REMOVE) || space == -1 || space > end) {
+            return;
+        }
+        final int keyLength;
+
+        try {
+            keyLength = Integer.parseInt(content.substring(start + 1, space));
+        } catch(NumberFormatException e) {
+            return;
+        }
+        final int keyEnd = space + 1 + keyLength;
+
+        if(keyLength <= 0 || keyEnd > end) {
+            return;
+        }
+        final String key = content.substring(space + 1, keyEnd);
+
+        records.remove(key);
+        records.put(key, operation == SET ? content.substring(keyEnd, end) : null);
+    }
+
+    void append(List<PropertiesChange> changes, boolean force) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+
+        for(PropertiesChange change : changes) {
+            builder.append(change.getNewValue() == null ? REMOVE : SET).append(change.getKey().length()).append(' ').append(change.getKey());
+            if(change.getNewValue() != null) {
+                builder.append(change.getNewValue());
+            }
+            builder.append('\n');
+        }
+        builder.append(COMMIT).append('\n');
+
+        final ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(builder));
+        final int length = buffer.remaining();
+
+        if(this.channel == null) {
+            this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        while(buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        if(force) {
+            this.channel.force(false);
+        }
+        if(this.size == 0) {
+            this.firstAppend = System.currentTimeMillis();
+        }
+        this.size += length;
+    }
+
+    void force() {
+        final FileChannel channel = this.channel;
+
+        if(channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch(ClosedChannelException ignored) {
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    void rotate() throws IOException {
+        this.close();
+        if(Files.exists(this.path)) {
+            if(Files.exists(this.compactingPath)) {
+                Files.write(this.compactingPath, Files.readAllBytes(this.path), StandardOpenOption.APPEND);
+                Files.delete(this.path);
+            } else {
+                Files.move(this.path, this.compactingPath);
+            }
+        }
+        this.size = 0;
+        this.firstAppend = 0;
+    }
+
+    void deleteCompacting() throws IOException {
+        Files.deleteIfExists(this.compactingPath);
+    }
+
+    void clear() throws IOException {
+        this.close();
+        Files.deleteIfExists(this.path);
+        Files.deleteIfExists(this.compactingPath);
+        this.size = 0;
+        this.firstAppend = 0;
+    }
+
+    void close() throws IOException {
+        final FileChannel channel = this.channel;
+
+        this.channel = null;
+        if(channel != null) {
+            channel.close();
+        }
+    }
+}
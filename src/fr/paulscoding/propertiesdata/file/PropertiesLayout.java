@@ -0,0 +1,214 @@
+package fr.paulscoding.propertiesdata.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+final class PropertiesLayout {
+
+    private static final char TOMBSTONE = '#', TOMBSTONE_FILL = '~', PADDING = ' ';
+
+    private long[] offsets;
+    private int count;
+    private byte[] terminator;
+    private boolean missingTerminator;
+    private long wasted;
+
+    boolean isValid() {
+        return this.offsets != null;
+    }
+
+    void invalidate() {
+        this.offsets = null;
+        this.wasted = 0;
+    }
+
+    long getWasted() {
+        return wasted;
+    }
+
+    long getEnd() {
+        return this.offsets == null ? 0 : this.offsets[this.count];
+    }
+
+    boolean compute(Path path, List<String> lines, long length) throws IOException {
+        final long[] offsets = new long[lines.size() + 16];
+        long position = 0, wasted = 0;
+
+        this.terminator = detectTerminator(path);
+        for(int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
+
+            offsets[i] = position;
+            position += utf8Length(line) + this.terminator.length;
+            if(isTombstone(line)) {
+                wasted += utf8Length(line) + this.terminator.length;
+            }
+        }
+        if(position == length) {
+            this.missingTerminator = false;
+        } else if(!lines.isEmpty() && position - this.terminator.length == length) {
+            this.missingTerminator = true;
+        } else {
+            this.invalidate();
+            return false;
+        }
+        offsets[lines.size()] = position;
+        this.offsets = offsets;
+        this.count = lines.size();
+        this.wasted = wasted;
+        return true;
+    }
+
+    private static byte[] detectTerminator(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(8192);
+            byte previous = 0;
+
+            while(channel.read(buffer) > 0) {
+                buffer.flip();
+                while(buffer.hasRemaining()) {
+                    final byte current = buffer.get();
+
+                    if(current == '\n') {
+                        return previous == '\r' ? new byte[] {'\r', '\n'} : new byte[] {'\n'};
+                    }
+                    previous = current;
+                }
+                buffer.clear();
+            }
+        }
+        return System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    }
+
+    int getLength(int line) {
+        return (int) (this.offsets[line + 1] - this.offsets[line] - this.terminator.length);
+    }
+
+    int write(FileChannel channel, int line, String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        writeFully(channel, ByteBuffer.wrap(bytes), this.offsets[line]);
+        return bytes.length;
+    }
+
+    int append(FileChannel channel, String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + this.terminator.length * 2);
+        long position = this.offsets[this.count];
+
+        if(this.missingTerminator) {
+            position -= this.terminator.length;
+            buffer.put(this.terminator);
+            this.missingTerminator = false;
+        }
+        buffer.put(bytes).put(this.terminator).flip();
+
+        final int bytesWritten = buffer.remaining();
+
+        writeFully(channel, buffer, position);
+        if(this.count + 1 == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+        }
+        this.count++;
+        this.offsets[this.count] = this.offsets[this.count - 1] + bytes.length + this.terminator.length;
+        return bytesWritten;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while(buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    void addWasted(long wasted) {
+        this.wasted += wasted;
+    }
+
+    int getTerminatorLength() {
+        return this.terminator.length;
+    }
+
+    static int utf8Length(CharSequence value) {
+        int length = 0;
+
+        for(int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if(c < 0x80) {
+                length++;
+            } else if(c < 0x800) {
+                length += 2;
+            } else if(Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if(Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    static int contentLength(String line) {
+        int end = line.length();
+
+        while(end > 0 && line.charAt(end - 1) == PADDING) {
+            end--;
+        }
+        return utf8Length(line.subSequence(0, end));
+    }
+
+    static int unpaddedEnd(CharSequence line, int valueStart) {
+        int end = line.length();
+
+        while(end > valueStart && line.charAt(end - 1) == PADDING) {
+            end--;
+        }
+        return end != line.length() && isDelimited(line, valueStart, end) ? end : line.length();
+    }
+
+    static boolean isDelimited(CharSequence value, int from, int to) {
+        if(to - from < 2) {
+            return false;
+        }
+        final char first = value.charAt(from), last = value.charAt(to - 1);
+
+        return (first == '"' && last == '"') || (first == '[' && last == ']');
+    }
+
+    static String pad(String text, int length) {
+        final StringBuilder padded = new StringBuilder(text);
+
+        for(int i = utf8Length(text); i < length; i++) {
+            padded.append(PADDING);
+        }
+        return padded.toString();
+    }
+
+    static String tombstone(int length) {
+        final char[] tombstone = new char[length];
+
+        Arrays.fill(tombstone, TOMBSTONE_FILL);
+        tombstone[0] = TOMBSTONE;
+        return new String(tombstone);
+    }
+
+    static boolean isTombstone(String line) {
+        if(line.length() < 2 || line.charAt(0) != TOMBSTONE) {
+            return false;
+        }
+        for(int i = 1; i < line.length(); i++) {
+            if(line.charAt(i) != TOMBSTONE_FILL) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,298 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+final class PropertiesListSegment {
+
+    static final String DIRECTORY_EXTENSION = ".lists";
+    static final String FILE_EXTENSION = ".list";
+    static final int BLOCK_SIZE = 1024;
+    static final long MINIMUM_UNUSED_AGE = 60000L;
+
+    private static final int MAGIC = 0x50524F4C;
+    private static final short FORMAT_VERSION = 1;
+    private static final String REFERENCE_PREFIX = "[@";
+    private static final char REFERENCE_SEPARATOR = ':';
+    private static final ValueType[] TYPES = ValueType.values();
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES * 3;
+
+    private final Path path;
+    private final ValueType type;
+    private final int size;
+    private volatile ByteBuffer content;
+    private volatile Block lastBlock;
+
+    private PropertiesListSegment(Path path, ValueType type, int size) {
+        this.path = path;
+        this.type = type;
+        this.size = size;
+    }
+
+    static boolean isReference(String value) {
+        return value.startsWith(REFERENCE_PREFIX) && value.endsWith("]") && value.indexOf(REFERENCE_SEPARATOR) != -1;
+    }
+
+    static PropertiesListSegment resolve(Map<String, PropertiesListSegment> segments, Path directory, String key, CharSequence value, ValueType type) {
+        if(value.length() < REFERENCE_PREFIX.length() + 1 || value.charAt(0) != '[' || value.charAt(1) != '@') {
+            return null;
+        }
+        final String reference = value.toString();
+
+        if(!isReference(reference)) {
+            return null;
+        }
+        final PropertiesListSegment segment = segments.computeIfAbsent(getName(reference), name -> open(directory, reference));
+
+        if(!segment.getType().isReadableAs(type)) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The value of '" + key + "' is " + segment.getType() + " but " + type + " is requested.");
+        }
+        return segment;
+    }
+
+    static ValueType getType(String reference) {
+        final String type = reference.substring(REFERENCE_PREFIX.length(), reference.indexOf(REFERENCE_SEPARATOR));
+
+        for(ValueType valueType : TYPES) {
+            if(valueType.isList() && valueType.name().equals(type)) {
+                return valueType;
+            }
+        }
+        return ValueType.UNKNOWN;
+    }
+
+    static String getName(String reference) {
+        return reference.substring(reference.lastIndexOf(REFERENCE_SEPARATOR) + 1, reference.length() - 1);
+    }
+
+    static PropertiesListSegment open(Path directory, String reference) {
+        final int sizeStart = reference.indexOf(REFERENCE_SEPARATOR) + 1;
+        final int size = Integer.parseInt(reference.substring(sizeStart, reference.indexOf(REFERENCE_SEPARATOR, sizeStart)));
+
+        return new PropertiesListSegment(directory.resolve(getName(reference) + FILE_EXTENSION), getType(reference), size);
+    }
+
+    static String write(Path directory, ValueType type, List<?> elements) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        final int blockCount = (elements.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final List<byte[]> blocks = new ArrayList<>(blockCount);
+
+        for(int i = 0; i < blockCount; i++) {
+            blocks.add(deflate(elements.subList(i * BLOCK_SIZE, Math.min(elements.size(), (i + 1) * BLOCK_SIZE))));
+        }
+        output.writeInt(MAGIC);
+        output.writeShort(FORMAT_VERSION);
+        output.writeByte(type.ordinal());
+        output.writeInt(elements.size());
+        output.writeInt(BLOCK_SIZE);
+        output.writeInt(blockCount);
+        int offset = HEADER_SIZE + Integer.BYTES * (blockCount + 1);
+
+        for(byte[] block : blocks) {
+            output.writeInt(offset);
+            offset += block.length;
+        }
+        output.writeInt(offset);
+        for(byte[] block : blocks) {
+            output.write(block);
+        }
+        output.flush();
+
+        final CRC32 crc = new CRC32();
+
+        crc.update(bytes.toByteArray(), 0, bytes.size());
+        output.writeLong(crc.getValue());
+
+        final byte[] content = bytes.toByteArray();
+        final String name = digest(content);
+        final Path target = directory.resolve(name + FILE_EXTENSION);
+
+        if(Files.exists(target)) {
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        } else {
+            final Path temporary = directory.resolve(name + FILE_EXTENSION + PropertiesFile.TEMPORARY_FILE_EXTENSION);
+
+            Files.createDirectories(directory);
+            Files.write(temporary, content);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch(AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return REFERENCE_PREFIX + type.name() + REFERENCE_SEPARATOR + elements.size() + REFERENCE_SEPARATOR + name + "]";
+    }
+
+    private static byte[] deflate(List<?> elements) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        final Map<String, Integer> dictionary = new HashMap<>();
+
+        try(DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            for(Object element : elements) {
+                final String value = String.valueOf(element);
+                final Integer id = dictionary.get(value);
+
+                if(id != null) {
+                    output.writeInt(id);
+                    continue;
+                }
+                final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+
+                output.writeInt(-encoded.length - 1);
+                output.write(encoded);
+                dictionary.put(value, dictionary.size());
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            final StringBuilder name = new StringBuilder(hash.length * 2);
+
+            for(byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.toString();
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "SHA-256 isn't available.", e);
+        }
+    }
+
+    static int deleteUnused(Path directory, Set<String> usedNames) {
+        if(!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int deleted = 0;
+
+        try(DirectoryStream<Path> segments = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for(Path segment : segments) {
+                final String fileName = segment.getFileName().toString();
+
+                if(!usedNames.contains(fileName.substring(0, fileName.length() - FILE_EXTENSION.length())) && Files.getLastModifiedTime(segment).toMillis() < System.currentTimeMillis() - MINIMUM_UNUSED_AGE) {
+                    Files.delete(segment);
+                    deleted++;
+                }
+            }
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+        return deleted;
+    }
+
+    ValueType getType() {
+        return type;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        final int blockIndex = index / BLOCK_SIZE;
+        Block block = this.lastBlock;
+
+        if(block == null || block.index != blockIndex) {
+            block = this.inflate(blockIndex);
+            this.lastBlock = block;
+        }
+        return block.elements[index - blockIndex * BLOCK_SIZE];
+    }
+
+    private ByteBuffer load() {
+        ByteBuffer content = this.content;
+
+        if(content != null) {
+            return content;
+        }
+        try {
+            final byte[] bytes = Files.readAllBytes(this.path);
+            final CRC32 crc = new CRC32();
+
+            if(bytes.length < HEADER_SIZE + Long.BYTES) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The list segment " + this.path + " is truncated.");
+            }
+            crc.update(bytes, 0, bytes.length - Long.BYTES);
+            content = ByteBuffer.wrap(bytes);
+            if(content.getLong(bytes.length - Long.BYTES) != crc.getValue() || content.getInt(0) != MAGIC || content.getShort(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The list segment " + this.path + " is corrupted.");
+            }
+            this.content = content;
+            return content;
+        } catch(IOException e) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The list segment " + this.path + " can't be read.", e);
+        }
+    }
+
+    private Block inflate(int blockIndex) {
+        final ByteBuffer content = this.load();
+        final int blockSize = content.getInt(HEADER_SIZE - Integer.BYTES * 2);
+        final int from = content.getInt(HEADER_SIZE + Integer.BYTES * blockIndex);
+        final int to = content.getInt(HEADER_SIZE + Integer.BYTES * (blockIndex + 1));
+        final String[] elements = new String[Math.min(blockSize, this.size - blockIndex * blockSize)];
+        final List<String> dictionary = new ArrayList<>();
+
+        try(DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(content.array(), from, to - from)))) {
+            for(int i = 0; i < elements.length; i++) {
+                final int id = input.readInt();
+
+                if(id >= 0) {
+                    elements[i] = dictionary.get(id);
+                    continue;
+                }
+                final byte[] encoded = new byte[-id - 1];
+
+                input.readFully(encoded);
+                elements[i] = new String(encoded, StandardCharsets.UTF_8);
+                dictionary.add(elements[i]);
+            }
+        } catch(IOException e) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The list segment " + this.path + " is corrupted.", e);
+        }
+        return new Block(blockIndex, elements);
+    }
+
+    private static final class Block {
+
+        private final int index;
+        private final String[] elements;
+
+        private Block(int index, String[] elements) {
+            this.index = index;
+            this.elements = elements;
+        }
+    }
+}
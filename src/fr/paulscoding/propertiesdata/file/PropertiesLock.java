@@ -0,0 +1,103 @@
+package fr.paulscoding.propertiesdata.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class PropertiesLock {
+
+    static final String FILE_EXTENSION = ".lock";
+
+    private static final long LOCKED_REGION = Long.BYTES;
+    private static final Map<Path, PropertiesLock> LOCKS = new HashMap<>();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer counter;
+    private final ReentrantLock localLock;
+    private FileLock fileLock;
+    private int references;
+
+    private PropertiesLock(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.localLock = new ReentrantLock();
+        final FileLock initializationLock = this.channel.lock(LOCKED_REGION, Long.MAX_VALUE - LOCKED_REGION, false);
+
+        try {
+            if(this.channel.size() < Long.BYTES) {
+                this.channel.write(ByteBuffer.allocate(Long.BYTES), 0);
+            }
+        } finally {
+            initializationLock.release();
+        }
+        this.counter = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+    }
+
+    static PropertiesLock acquire(String absolutePath) throws IOException {
+        final Path path = Paths.get(absolutePath + FILE_EXTENSION).toAbsolutePath().normalize();
+
+        synchronized(LOCKS) {
+            PropertiesLock lock = LOCKS.get(path);
+
+            if(lock == null) {
+                lock = new PropertiesLock(path);
+                LOCKS.put(path, lock);
+            }
+            lock.references++;
+            return lock;
+        }
+    }
+
+    void release() throws IOException {
+        synchronized(LOCKS) {
+            if(--this.references == 0) {
+                LOCKS.remove(this.path);
+                this.channel.close();
+            }
+        }
+    }
+
+    long getVersion() {
+        return this.counter.getLong(0);
+    }
+
+    long increment() {
+        final long version = this.counter.getLong(0) + 1;
+
+        this.counter.putLong(0, version);
+        return version;
+    }
+
+    void lock(boolean shared) throws IOException {
+        this.localLock.lock();
+        if(this.localLock.getHoldCount() > 1) {
+            return;
+        }
+        try {
+            this.fileLock = this.channel.lock(LOCKED_REGION, Long.MAX_VALUE - LOCKED_REGION, shared);
+        } catch(IOException | RuntimeException e) {
+            this.localLock.unlock();
+            throw e;
+        }
+    }
+
+    void unlock() throws IOException {
+        try {
+            if(this.localLock.getHoldCount() == 1 && this.fileLock != null) {
+                this.fileLock.release();
+                this.fileLock = null;
+            }
+        } finally {
+            this.localLock.unlock();
+        }
+    }
+}
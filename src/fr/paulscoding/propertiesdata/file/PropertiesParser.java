@@ -0,0 +1,101 @@
+package fr.paulscoding.propertiesdata.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+final class PropertiesParser {
+
+    static final long PARALLEL_THRESHOLD = 1024L * 1024L;
+
+    private static final int MINIMUM_CHUNK_SIZE = 256 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private PropertiesParser() {
+    }
+
+    static boolean isParallel(long length) {
+        return length >= PARALLEL_THRESHOLD && length <= Integer.MAX_VALUE - 8 && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    static void parseParallel(Path path, List<String> lines, Map<String, PropertiesEntry> index, String separator) throws IOException {
+        final byte[] bytes = Files.readAllBytes(path);
+        final int chunkCount = Math.max(1, Math.min(bytes.length / MINIMUM_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+        final List<ForkJoinTask<Chunk>> tasks = new ArrayList<>(chunkCount);
+        int chunkStart = 0;
+
+        for(int i = 1; i <= chunkCount && chunkStart < bytes.length; i++) {
+            final int from = chunkStart;
+            final int to = i == chunkCount ? bytes.length : lineBoundary(bytes, Math.max(from, (int) ((long) bytes.length * i / chunkCount)));
+
+            tasks.add(ForkJoinPool.commonPool().submit(() -> parseChunk(bytes, from, to, separator)));
+            chunkStart = to;
+        }
+        for(ForkJoinTask<Chunk> task : tasks) {
+            final Chunk chunk = task.join();
+            final int base = lines.size();
+
+            for(PropertiesEntry entry : chunk.index.values()) {
+                if(!index.containsKey(entry.getKey())) {
+                    index.put(entry.getKey(), base == 0 ? entry : new PropertiesEntry(entry.getKey(), entry.getValue(), base + entry.getLine()));
+                }
+            }
+            lines.addAll(chunk.lines);
+        }
+    }
+
+    private static int lineBoundary(byte[] bytes, int from) {
+        for(int i = from; i < bytes.length; i++) {
+            if(bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return bytes.length;
+    }
+
+    private static Chunk parseChunk(byte[] bytes, int from, int to, String separator) {
+        final Chunk chunk = new Chunk((to - from) / 32);
+        int lineStart = from;
+
+        for(int i = from; i < to; i++) {
+            if(bytes[i] == '\n' || bytes[i] == '\r') {
+                chunk.add(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8), separator);
+                if(bytes[i] == '\r' && i + 1 < to && bytes[i + 1] == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        if(lineStart < to) {
+            chunk.add(new String(bytes, lineStart, to - lineStart, StandardCharsets.UTF_8), separator);
+        }
+        return chunk;
+    }
+
+    private static final class Chunk {
+
+        private final List<String> lines;
+        private final Map<String, PropertiesEntry> index;
+
+        private Chunk(int expectedLines) {
+            this.lines = new ArrayList<>(expectedLines);
+            this.index = new HashMap<>(expectedLines);
+        }
+
+        private void add(String line, String separator) {
+            final PropertiesEntry entry = PropertiesEntry.parse(line, this.lines.size(), separator);
+
+            if(entry != null) {
+                this.index.putIfAbsent(entry.getKey(), entry);
+            }
+            this.lines.add(line);
+        }
+    }
+}
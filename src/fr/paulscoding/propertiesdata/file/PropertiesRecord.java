@@ -0,0 +1,101 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+
+public final class PropertiesRecord {
+
+    private final PropertiesFile propertiesFile;
+    private final PropertiesSchema schema;
+    private final ChangeListener changeListener;
+    private volatile PropertiesSchema.Values values;
+
+    PropertiesRecord(PropertiesFile propertiesFile, PropertiesSchema schema) {
+        this.propertiesFile = propertiesFile;
+        this.schema = schema;
+        this.values = this.readAll();
+        this.changeListener = (key, oldValue, newValue) -> {
+            final PropertiesSchema.Slot slot = this.schema.slots().get(key);
+
+            if(slot != null) {
+                this.update(slot, newValue != null);
+            }
+        };
+        this.propertiesFile.addChangeListener(this.changeListener);
+    }
+
+    public PropertiesFile getPropertiesFile() {
+        return propertiesFile;
+    }
+
+    public PropertiesSchema getSchema() {
+        return schema;
+    }
+
+    private PropertiesSchema.Values readAll() {
+        final PropertiesSchema.Values values = this.schema.newValues();
+        final StringBuilder errors = new StringBuilder();
+
+        for(PropertiesSchema.Slot slot : this.schema.slots().values()) {
+            try {
+                slot.read(this.propertiesFile, values);
+            } catch(IllegalArgumentException e) {
+                errors.append(errors.length() == 0 ? "" : " ").append(e.getMessage().replace(PropertiesData.getLogsPrefix(), ""));
+            }
+        }
+        if(errors.length() > 0) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The file " + this.propertiesFile.getName() + " doesn't match its schema: " + errors);
+        }
+        return values;
+    }
+
+    private synchronized void update(PropertiesSchema.Slot slot, boolean present) {
+        final PropertiesSchema.Values values = this.values.copy();
+
+        try {
+            if(present) {
+                slot.read(this.propertiesFile, values);
+            } else {
+                slot.readDefault(values);
+            }
+            this.values = values;
+        } catch(IllegalArgumentException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    public synchronized void refresh() {
+        this.values = this.readAll();
+    }
+
+    public void detach() {
+        this.propertiesFile.removeChangeListener(this.changeListener);
+    }
+
+    private int indexOf(PropertiesSchema.Slot slot) {
+        if(slot.schema != this.schema) {
+            throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The key '" + slot.getKey() + "' isn't declared in this schema.");
+        }
+        return slot.index;
+    }
+
+    public int get(PropertiesSchema.IntegerSlot slot) {
+        return this.values.integers[this.indexOf(slot)];
+    }
+
+    public long get(PropertiesSchema.LongSlot slot) {
+        return this.values.longs[this.indexOf(slot)];
+    }
+
+    public double get(PropertiesSchema.DoubleSlot slot) {
+        return this.values.doubles[this.indexOf(slot)];
+    }
+
+    public boolean get(PropertiesSchema.BooleanSlot slot) {
+        return this.values.booleans[this.indexOf(slot)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(PropertiesSchema.ValueSlot<T> slot) {
+        return (T) this.values.objects[this.indexOf(slot)];
+    }
+}
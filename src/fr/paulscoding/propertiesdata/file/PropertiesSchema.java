@@ -0,0 +1,333 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class PropertiesSchema {
+
+    private final Map<String, Slot> slots;
+    private final int integers, longs, doubles, booleans, objects;
+
+    private PropertiesSchema(Builder builder) {
+        this.slots = Collections.unmodifiableMap(new LinkedHashMap<>(builder.slots));
+        this.integers = builder.integers;
+        this.longs = builder.longs;
+        this.doubles = builder.doubles;
+        this.booleans = builder.booleans;
+        this.objects = builder.objects;
+        for(Slot slot : this.slots.values()) {
+            slot.schema = this;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Slot> getSlots() {
+        return Collections.unmodifiableList(new ArrayList<>(this.slots.values()));
+    }
+
+    public Slot getSlot(String key) {
+        return this.slots.get(key);
+    }
+
+    Map<String, Slot> slots() {
+        return slots;
+    }
+
+    Values newValues() {
+        return new Values(new int[this.integers], new long[this.longs], new double[this.doubles], new boolean[this.booleans], new Object[this.objects]);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Slot> slots;
+        private int integers, longs, doubles, booleans, objects;
+        private boolean built;
+
+        private Builder() {
+            this.slots = new LinkedHashMap<>();
+        }
+
+        private <S extends Slot> S add(S slot) {
+            if(this.built) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "This schema has already been built.");
+            }
+            if(slot.getKey().equals("") || slot.getKey().startsWith(" ")) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "Invalid key: '" + slot.getKey() + "'.");
+            }
+            if(this.slots.putIfAbsent(slot.getKey(), slot) != null) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The key '" + slot.getKey() + "' is already declared.");
+            }
+            return slot;
+        }
+
+        public IntegerSlot integerSlot(String key, int defaultValue) {
+            return this.add(new IntegerSlot(key, this.integers++, defaultValue));
+        }
+
+        public LongSlot longSlot(String key, long defaultValue) {
+            return this.add(new LongSlot(key, this.longs++, defaultValue));
+        }
+
+        public DoubleSlot doubleSlot(String key, double defaultValue) {
+            return this.add(new DoubleSlot(key, this.doubles++, defaultValue));
+        }
+
+        public BooleanSlot booleanSlot(String key, boolean defaultValue) {
+            return this.add(new BooleanSlot(key, this.booleans++, defaultValue));
+        }
+
+        public ValueSlot<String> stringSlot(String key, String defaultValue) {
+            return this.add(new ValueSlot<>(key, ValueType.STRING, this.objects++, defaultValue, PropertiesFile.formatValue(defaultValue, true), AbstractProperties::getString));
+        }
+
+        public ValueSlot<List<String>> stringListSlot(String key, List<String> defaultValue) {
+            return this.add(new ValueSlot<>(key, ValueType.STRING_LIST, this.objects++, Collections.unmodifiableList(new ArrayList<>(defaultValue)), PropertiesFile.formatList(defaultValue, true), AbstractProperties::getStringList));
+        }
+
+        public ValueSlot<List<Integer>> integerListSlot(String key, List<Integer> defaultValue) {
+            return this.add(new ValueSlot<>(key, ValueType.INTEGER_LIST, this.objects++, Collections.unmodifiableList(new ArrayList<>(defaultValue)), PropertiesFile.formatList(defaultValue, false), AbstractProperties::getIntegerList));
+        }
+
+        public ValueSlot<List<Double>> doubleListSlot(String key, List<Double> defaultValue) {
+            return this.add(new ValueSlot<>(key, ValueType.DOUBLE_LIST, this.objects++, Collections.unmodifiableList(new ArrayList<>(defaultValue)), PropertiesFile.formatList(defaultValue, false), AbstractProperties::getDoubleList));
+        }
+
+        public ValueSlot<List<Boolean>> booleanListSlot(String key, List<Boolean> defaultValue) {
+            return this.add(new ValueSlot<>(key, ValueType.BOOLEAN_LIST, this.objects++, Collections.unmodifiableList(new ArrayList<>(defaultValue)), PropertiesFile.formatList(defaultValue, false), AbstractProperties::getBooleanList));
+        }
+
+        public PropertiesSchema build() {
+            if(this.built) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "This schema has already been built.");
+            }
+            this.built = true;
+            return new PropertiesSchema(this);
+        }
+    }
+
+    public abstract static class Slot {
+
+        private final String key;
+        private final ValueType type;
+        final int index;
+        PropertiesSchema schema;
+
+        private Slot(String key, ValueType type, int index) {
+            this.key = key;
+            this.type = type;
+            this.index = index;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public ValueType getType() {
+            return type;
+        }
+
+        abstract String formatDefault();
+
+        abstract void read(AbstractProperties properties, Values values);
+
+        abstract void readDefault(Values values);
+
+        void check(AbstractProperties properties) {
+            final ValueType valueType = properties.typeOf(this.key);
+
+            if(valueType == null || !valueType.isReadableAs(this.type)) {
+                throw new IllegalArgumentException(PropertiesData.getLogsPrefix() + "The value of '" + this.key + "' is " + valueType + " but " + this.type + " is declared.");
+            }
+        }
+    }
+
+    public static final class IntegerSlot extends Slot {
+
+        private final int defaultValue;
+
+        private IntegerSlot(String key, int index, int defaultValue) {
+            super(key, ValueType.INTEGER, index);
+            this.defaultValue = defaultValue;
+        }
+
+        public int getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        String formatDefault() {
+            return PropertiesFile.formatValue(this.defaultValue, false);
+        }
+
+        @Override
+        void read(AbstractProperties properties, Values values) {
+            this.check(properties);
+            values.integers[this.index] = properties.getInteger(this.getKey());
+        }
+
+        @Override
+        void readDefault(Values values) {
+            values.integers[this.index] = this.defaultValue;
+        }
+    }
+
+    public static final class LongSlot extends Slot {
+
+        private final long defaultValue;
+
+        private LongSlot(String key, int index, long defaultValue) {
+            super(key, ValueType.LONG, index);
+            this.defaultValue = defaultValue;
+        }
+
+        public long getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        String formatDefault() {
+            return PropertiesFile.formatValue(this.defaultValue, false);
+        }
+
+        @Override
+        void read(AbstractProperties properties, Values values) {
+            this.check(properties);
+            values.longs[this.index] = properties.getLong(this.getKey());
+        }
+
+        @Override
+        void readDefault(Values values) {
+            values.longs[this.index] = this.defaultValue;
+        }
+    }
+
+    public static final class DoubleSlot extends Slot {
+
+        private final double defaultValue;
+
+        private DoubleSlot(String key, int index, double defaultValue) {
+            super(key, ValueType.DOUBLE, index);
+            this.defaultValue = defaultValue;
+        }
+
+        public double getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        String formatDefault() {
+            return PropertiesFile.formatValue(this.defaultValue, false);
+        }
+
+        @Override
+        void read(AbstractProperties properties, Values values) {
+            this.check(properties);
+            values.doubles[this.index] = properties.getDouble(this.getKey());
+        }
+
+        @Override
+        void readDefault(Values values) {
+            values.doubles[this.index] = this.defaultValue;
+        }
+    }
+
+    public static final class BooleanSlot extends Slot {
+
+        private final boolean defaultValue;
+
+        private BooleanSlot(String key, int index, boolean defaultValue) {
+            super(key, ValueType.BOOLEAN, index);
+            this.defaultValue = defaultValue;
+        }
+
+        public boolean getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        String formatDefault() {
+            return PropertiesFile.formatValue(this.defaultValue, false);
+        }
+
+        @Override
+        void read(AbstractProperties properties, Values values) {
+            this.check(properties);
+            values.booleans[this.index] = properties.getBoolean(this.getKey());
+        }
+
+        @Override
+        void readDefault(Values values) {
+            values.booleans[this.index] = this.defaultValue;
+        }
+    }
+
+    public static final class ValueSlot<T> extends Slot {
+
+        private final T defaultValue;
+        private final String formattedDefaultValue;
+        private final Reader<T> reader;
+
+        private ValueSlot(String key, ValueType type, int index, T defaultValue, String formattedDefaultValue, Reader<T> reader) {
+            super(key, type, index);
+            this.defaultValue = defaultValue;
+            this.formattedDefaultValue = formattedDefaultValue;
+            this.reader = reader;
+        }
+
+        public T getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        String formatDefault() {
+            return formattedDefaultValue;
+        }
+
+        @Override
+        void read(AbstractProperties properties, Values values) {
+            this.check(properties);
+            values.objects[this.index] = this.reader.read(properties, this.getKey());
+        }
+
+        @Override
+        void readDefault(Values values) {
+            values.objects[this.index] = this.defaultValue;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+
+        T read(AbstractProperties properties, String key);
+    }
+
+    static final class Values {
+
+        final int[] integers;
+        final long[] longs;
+        final double[] doubles;
+        final boolean[] booleans;
+        final Object[] objects;
+
+        private Values(int[] integers, long[] longs, double[] doubles, boolean[] booleans, Object[] objects) {
+            this.integers = integers;
+            this.longs = longs;
+            this.doubles = doubles;
+            this.booleans = booleans;
+            this.objects = objects;
+        }
+
+        Values copy() {
+            return new Values(this.integers.clone(), this.longs.clone(), this.doubles.clone(), this.booleans.clone(), this.objects.clone());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.util.ValueType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+final class PropertiesSnapshot {
+
+    static final String FILE_EXTENSION = ".bin";
+
+    private static final int MAGIC = 0x50524F42;
+    private static final short FORMAT_VERSION = 2;
+    private static final ValueType[] TYPES = ValueType.values();
+
+    private final Path path, temporaryPath;
+
+    PropertiesSnapshot(String absolutePath) {
+        this.path = Paths.get(absolutePath + FILE_EXTENSION);
+        this.temporaryPath = Paths.get(absolutePath + FILE_EXTENSION + PropertiesFile.TEMPORARY_FILE_EXTENSION);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    void write(List<String> lines, Map<String, PropertiesEntry> index, String separator, FileTime lastModified, long length) throws IOException {
+        final List<PropertiesEntry> entries = new ArrayList<>(index.values());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+
+        entries.sort((first, second) -> first.getKey().compareTo(second.getKey()));
+        output.writeInt(MAGIC);
+        output.writeShort(FORMAT_VERSION);
+        output.writeLong(lastModified.to(TimeUnit.NANOSECONDS));
+        output.writeLong(length);
+        writeString(output, separator);
+        final StringBuilder text = new StringBuilder();
+
+        output.writeInt(lines.size());
+        for(String line : lines) {
+            text.append(line);
+            output.writeInt(text.length());
+        }
+        writeString(output, text.toString());
+        output.writeInt(entries.size());
+        for(PropertiesEntry entry : entries) {
+            output.writeInt(entry.getLine());
+            output.writeInt(entry.getKey().length());
+            output.writeByte(entry.getType().ordinal());
+        }
+        output.flush();
+
+        final CRC32 crc = new CRC32();
+
+        crc.update(bytes.toByteArray(), 0, bytes.size());
+        output.writeLong(crc.getValue());
+        Files.write(this.temporaryPath, bytes.toByteArray());
+        try {
+            Files.move(this.temporaryPath, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch(AtomicMoveNotSupportedException e) {
+            Files.move(this.temporaryPath, this.path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    boolean read(List<String> lines, Map<String, PropertiesEntry> index, String separator, FileTime lastModified, long length) {
+        if(!Files.exists(this.path)) {
+            return false;
+        }
+        final byte[] bytes;
+
+        try {
+            bytes = Files.readAllBytes(this.path);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+            return false;
+        }
+        if(bytes.length < Long.BYTES) {
+            return false;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final CRC32 crc = new CRC32();
+
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        if(buffer.getLong(bytes.length - Long.BYTES) != crc.getValue()) {
+            return false;
+        }
+        buffer.limit(bytes.length - Long.BYTES);
+        try {
+            if(buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION || buffer.getLong() != lastModified.to(TimeUnit.NANOSECONDS) || buffer.getLong() != length || !readString(buffer).equals(separator)) {
+                return false;
+            }
+            final int lineCount = buffer.getInt();
+            final int[] lineEnds = new int[lineCount];
+
+            for(int i = 0; i < lineCount; i++) {
+                lineEnds[i] = buffer.getInt();
+            }
+            final String text = readString(buffer);
+            final List<String> snapshotLines = new ArrayList<>(lineCount);
+            int lineStart = 0;
+
+            for(int lineEnd : lineEnds) {
+                snapshotLines.add(text.substring(lineStart, lineEnd));
+                lineStart = lineEnd;
+            }
+            final int entryCount = buffer.getInt();
+
+            for(int i = 0; i < entryCount; i++) {
+                final int lineNumber = buffer.getInt();
+                final int keyLength = buffer.getInt();
+                final byte type = buffer.get();
+                final String line = snapshotLines.get(lineNumber);
+                final String key = line.substring(0, keyLength);
+
+                index.put(key, new PropertiesEntry(key, PropertiesEntry.valueOf(line, keyLength + separator.length()), lineNumber, TYPES[type]));
+            }
+            lines.addAll(snapshotLines);
+            return true;
+        } catch(BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            index.clear();
+            return false;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package fr.paulscoding.propertiesdata.file;
+
+final class PropertiesTokenizer {
+
+    private static final char QUOTE = '"', ESCAPE = '\\';
+
+    private PropertiesTokenizer() {
+    }
+
+    static int indexOfSeparator(String line, String separator) {
+        final char first = separator.charAt(0);
+
+        if(separator.length() == 1) {
+            return line.indexOf(first);
+        }
+        final int last = line.length() - separator.length();
+
+        for(int i = line.indexOf(first); i != -1 && i <= last; i = line.indexOf(first, i + 1)) {
+            if(line.regionMatches(i + 1, separator, 1, separator.length() - 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int nextElementEnd(CharSequence value, int from, int to) {
+        int i = from;
+
+        if(i < to && value.charAt(i) == QUOTE) {
+            final int closingQuote = closingQuote(value, i, to);
+
+            if(closingQuote != -1) {
+                i = closingQuote + 1;
+            }
+        }
+        for(; i < to - 1; i++) {
+            if(value.charAt(i) == ',' && value.charAt(i + 1) == ' ') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    static int countElements(CharSequence value, int from, int to) {
+        if(from == to) {
+            return 0;
+        }
+        int count = 1;
+
+        for(int end = nextElementEnd(value, from, to); end < to; end = nextElementEnd(value, end + 2, to)) {
+            count++;
+        }
+        return count;
+    }
+
+    static boolean isQuoted(CharSequence value, int from, int to) {
+        return to - from >= 2 && value.charAt(from) == QUOTE && value.charAt(to - 1) == QUOTE;
+    }
+
+    private static int closingQuote(CharSequence value, int from, int to) {
+        for(int i = from + 1; i < to; i++) {
+            final char c = value.charAt(i);
+
+            if(c == ESCAPE) {
+                i++;
+            } else if(c == QUOTE && (i == to - 1 || (i + 2 < to && value.charAt(i + 1) == ',' && value.charAt(i + 2) == ' '))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String unquote(String value, int from, int to) {
+        final int start = from + 1, end = to - 1;
+        final int escape = value.indexOf(ESCAPE, start);
+
+        if(escape == -1 || escape >= end) {
+            return value.substring(start, end);
+        }
+        final StringBuilder unquoted = new StringBuilder(end - start);
+
+        for(int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+
+            if(c == ESCAPE && i + 1 < end && (value.charAt(i + 1) == QUOTE || value.charAt(i + 1) == ESCAPE)) {
+                i++;
+                unquoted.append(value.charAt(i));
+            } else {
+                unquoted.append(c);
+            }
+        }
+        return unquoted.toString();
+    }
+
+    static StringBuilder appendQuoted(StringBuilder builder, String value) {
+        builder.append(QUOTE);
+        for(int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if(c == QUOTE || (c == ESCAPE && (i == value.length() - 1 || value.charAt(i + 1) == QUOTE || value.charAt(i + 1) == ESCAPE))) {
+                builder.append(ESCAPE);
+            }
+            builder.append(c);
+        }
+        return builder.append(QUOTE);
+    }
+}
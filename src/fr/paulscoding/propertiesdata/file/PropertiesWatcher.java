@@ -0,0 +1,149 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+final class PropertiesWatcher implements Runnable {
+
+    private static final long DEBOUNCE_DELAY = 10L;
+    private static PropertiesWatcher instance;
+
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> watchKeys;
+    private final Map<Path, Set<ConcurrentPropertiesFile>> files;
+
+    private PropertiesWatcher() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.watchKeys = new HashMap<>();
+        this.files = new ConcurrentHashMap<>();
+    }
+
+    private static synchronized PropertiesWatcher getInstance() throws IOException {
+        if(instance == null) {
+            instance = new PropertiesWatcher();
+
+            final Thread thread = new Thread(instance, "PropertiesData-Watcher");
+
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return instance;
+    }
+
+    static void register(ConcurrentPropertiesFile propertiesFile) {
+        try {
+            getInstance().add(propertiesFile);
+        } catch(IOException e) {
+            PropertiesData.log(e);
+        }
+    }
+
+    static synchronized void unregister(ConcurrentPropertiesFile propertiesFile) {
+        if(instance != null) {
+            instance.remove(propertiesFile);
+        }
+    }
+
+    private static Path getFilePath(ConcurrentPropertiesFile propertiesFile) {
+        return propertiesFile.getFile().getAbsoluteFile().toPath().normalize();
+    }
+
+    private synchronized void add(ConcurrentPropertiesFile propertiesFile) throws IOException {
+        final Path filePath = getFilePath(propertiesFile);
+        final Path directory = filePath.getParent();
+
+        if(!this.watchKeys.containsKey(directory)) {
+            this.watchKeys.put(directory, directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        }
+        this.files.computeIfAbsent(filePath, path -> new CopyOnWriteArraySet<>()).add(propertiesFile);
+    }
+
+    private synchronized void remove(ConcurrentPropertiesFile propertiesFile) {
+        final Path filePath = getFilePath(propertiesFile);
+        final Path directory = filePath.getParent();
+        final Set<ConcurrentPropertiesFile> watchedFiles = this.files.get(filePath);
+
+        if(watchedFiles == null || !watchedFiles.remove(propertiesFile)) {
+            return;
+        }
+        if(watchedFiles.isEmpty()) {
+            this.files.remove(filePath);
+        }
+        for(Path path : this.files.keySet()) {
+            if(path.getParent().equals(directory)) {
+                return;
+            }
+        }
+        final WatchKey watchKey = this.watchKeys.remove(directory);
+
+        if(watchKey != null) {
+            watchKey.cancel();
+        }
+    }
+
+    @Override
+    public void run() {
+        final Set<ConcurrentPropertiesFile> pendingFiles = new LinkedHashSet<>();
+
+        while(true) {
+            try {
+                WatchKey watchKey = this.watchService.take();
+
+                while(watchKey != null) {
+                    this.collect(watchKey, pendingFiles);
+                    watchKey = this.watchService.poll(DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+                }
+            } catch(InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            this.reload(pendingFiles);
+            pendingFiles.clear();
+        }
+    }
+
+    private void collect(WatchKey watchKey, Set<ConcurrentPropertiesFile> pendingFiles) {
+        final Path directory = (Path) watchKey.watchable();
+
+        for(WatchEvent<?> event : watchKey.pollEvents()) {
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for(Map.Entry<Path, Set<ConcurrentPropertiesFile>> entry : this.files.entrySet()) {
+                    if(entry.getKey().getParent().equals(directory)) {
+                        pendingFiles.addAll(entry.getValue());
+                    }
+                }
+                continue;
+            }
+            final Set<ConcurrentPropertiesFile> watchedFiles = this.files.get(directory.resolve((Path) event.context()));
+
+            if(watchedFiles != null) {
+                pendingFiles.addAll(watchedFiles);
+            }
+        }
+        watchKey.reset();
+    }
+
+    private void reload(Set<ConcurrentPropertiesFile> watchedFiles) {
+        for(ConcurrentPropertiesFile propertiesFile : watchedFiles) {
+            try {
+                propertiesFile.reload();
+            } catch(RuntimeException e) {
+                PropertiesData.log(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package fr.paulscoding.propertiesdata.file;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+final class SortedIndex {
+
+    private final String[] keys;
+    private final Map<String, PropertiesEntry> index;
+
+    SortedIndex(Map<String, PropertiesEntry> index) {
+        this.keys = index.keySet().toArray(new String[0]);
+        this.index = index;
+        Arrays.sort(this.keys);
+    }
+
+    private int lowerBound(String key) {
+        final int position = Arrays.binarySearch(this.keys, key);
+
+        return position >= 0 ? position : -position - 1;
+    }
+
+    Stream<PropertiesEntry> entries(String fromKey, String toKey) {
+        final int from = fromKey == null ? 0 : this.lowerBound(fromKey);
+        final int to = toKey == null ? this.keys.length : this.lowerBound(toKey);
+
+        return from >= to ? Stream.empty() : Arrays.stream(this.keys, from, to).map(this.index::get);
+    }
+
+    void forEachWithPrefix(String prefix, Consumer<PropertiesEntry> consumer) {
+        for(int i = this.lowerBound(prefix); i < this.keys.length && this.keys[i].startsWith(prefix); i++) {
+            consumer.accept(this.index.get(this.keys[i]));
+        }
+    }
+}
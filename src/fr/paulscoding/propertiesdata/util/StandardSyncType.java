@@ -0,0 +1,8 @@
+package fr.paulscoding.propertiesdata.util;
+
+public enum StandardSyncType {
+
+    NONE,
+    ON_COMMIT,
+    GROUP_COMMIT
+}
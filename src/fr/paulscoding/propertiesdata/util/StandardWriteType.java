@@ -0,0 +1,8 @@
+package fr.paulscoding.propertiesdata.util;
+
+public enum StandardWriteType {
+
+    REWRITE,
+    JOURNAL,
+    IN_PLACE
+}
@@ -0,0 +1,68 @@
+package fr.paulscoding.propertiesdata.util;
+
+import java.util.List;
+
+public enum ValueType {
+
+    STRING,
+    INTEGER,
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    STRING_LIST,
+    INTEGER_LIST,
+    DOUBLE_LIST,
+    BOOLEAN_LIST,
+    EMPTY_LIST,
+    UNKNOWN;
+
+    public boolean isList() {
+        return this == STRING_LIST || this == INTEGER_LIST || this == DOUBLE_LIST || this == BOOLEAN_LIST || this == EMPTY_LIST;
+    }
+
+    public boolean isReadableAs(ValueType type) {
+        if(this == type) {
+            return true;
+        }
+        switch(this) {
+            case INTEGER:
+                return type == LONG || type == DOUBLE;
+            case LONG:
+                return type == DOUBLE;
+            case INTEGER_LIST:
+                return type == DOUBLE_LIST;
+            case EMPTY_LIST:
+                return type.isList();
+            default:
+                return false;
+        }
+    }
+
+    public boolean isReadableAs(Class<?> type) {
+        if(type == List.class) {
+            return this.isList();
+        }
+        final ValueType valueType = of(type);
+
+        return valueType != null && this.isReadableAs(valueType);
+    }
+
+    public static ValueType of(Class<?> type) {
+        if(type == String.class) {
+            return STRING;
+        }
+        if(type == Integer.class || type == int.class) {
+            return INTEGER;
+        }
+        if(type == Long.class || type == long.class) {
+            return LONG;
+        }
+        if(type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return DOUBLE;
+        }
+        if(type == Boolean.class || type == boolean.class) {
+            return BOOLEAN;
+        }
+        return null;
+    }
+}
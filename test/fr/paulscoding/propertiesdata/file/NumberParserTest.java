@@ -0,0 +1,101 @@
+package fr.paulscoding.propertiesdata.file;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class NumberParserTest {
+
+    private static final String[] INVALID_INTEGERS = {"", "-", "+", "1a", "1.0", " 1", "--1", "\u0661\u0662", "9223372036854775808", "-9223372036854775809"};
+
+    @Test
+    public void parsesIntegersLikeTheJdk() {
+        final String[] values = {"0", "-0", "+7", "42", "-42", "2147483647", "-2147483648", "000123"};
+
+        for(String value : values) {
+            assertEquals(value, Integer.parseInt(value), NumberParser.parseInt(value, 0, value.length()));
+        }
+        assertEquals(123, NumberParser.parseInt("[1, 123, 4]", 4, 7));
+        assertInvalidInteger("2147483648");
+        assertInvalidInteger("-2147483649");
+        for(String value : INVALID_INTEGERS) {
+            assertInvalidInteger(value);
+        }
+    }
+
+    @Test
+    public void parsesLongsLikeTheJdk() {
+        final String[] values = {"0", "-1", "2147483648", "9223372036854775807", "-9223372036854775808", "+9223372036854775807"};
+
+        for(String value : values) {
+            assertEquals(value, Long.parseLong(value), NumberParser.parseLong(value, 0, value.length()));
+        }
+        for(String value : INVALID_INTEGERS) {
+            try {
+                NumberParser.parseLong(value, 0, value.length());
+                fail(value);
+            } catch(NumberFormatException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void parsesDoublesLikeTheJdk() {
+        final String[] values = {"0", "-0.0", "1.5", "-2.25", "0.1", "123456789012345", "1234567890123456789", "0.000000000000000000000000001", "1e10", "1E-5", "2.5e+3", "1e22", "1e23", "1e308", "4.9e-324", "NaN", "-Infinity", "1.", ".5", "00.0100"};
+
+        for(String value : values) {
+            assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)), Double.doubleToLongBits(NumberParser.parseDouble(value, 0, value.length())));
+        }
+        assertEquals(2.5, NumberParser.parseDouble("[1.5, 2.5]", 6, 9), 0);
+    }
+
+    @Test
+    public void parsesRandomDoublesExactly() {
+        final Random random = new Random(42);
+
+        for(int i = 0; i < 100000; i++) {
+            final double expected = i % 2 == 0 ? random.nextDouble() * Math.pow(10, random.nextInt(40) - 20) : Double.longBitsToDouble(random.nextLong());
+            final String value = i % 3 == 0 ? String.format(Locale.ROOT, "%.6f", expected) : Double.toString(expected);
+
+            assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)), Double.doubleToLongBits(NumberParser.parseDouble(value, 0, value.length())));
+        }
+    }
+
+    @Test
+    public void rejectsInvalidDoubles() {
+        final String[] values = {"", "-", "1e", "1e+", "a", "1.2.3", "\u0661"};
+
+        for(String value : values) {
+            try {
+                NumberParser.parseDouble(value, 0, value.length());
+                fail(value);
+            } catch(NumberFormatException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void countsListElements() {
+        assertEquals(0, NumberParser.countElements("[]"));
+        assertEquals(1, NumberParser.countElements("[1]"));
+        assertEquals(3, NumberParser.countElements("[1, -2, 3.5]"));
+        assertEquals(2, NumberParser.nextElementEnd("[1, -2, 3.5]", 1));
+        try {
+            NumberParser.countElements("1, 2");
+            fail();
+        } catch(IllegalArgumentException ignored) {
+        }
+    }
+
+    private static void assertInvalidInteger(String value) {
+        try {
+            NumberParser.parseInt(value, 0, value.length());
+            fail(value);
+        } catch(NumberFormatException ignored) {
+        }
+    }
+}
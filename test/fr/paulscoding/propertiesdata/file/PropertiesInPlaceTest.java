@@ -0,0 +1,146 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.StandardWriteType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PropertiesInPlaceTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+    }
+
+    private Path getPath() {
+        return this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION);
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(this.getPath()), StandardCharsets.UTF_8);
+    }
+
+    private PropertiesFile load() {
+        return new PropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    private PropertiesFile createInPlace(String content) throws IOException {
+        Files.write(this.getPath(), content.getBytes(StandardCharsets.UTF_8));
+        return this.load().setStandardWriteType(StandardWriteType.IN_PLACE);
+    }
+
+    @Test
+    public void overwritesValuesOfTheSameLength() throws IOException {
+        final PropertiesFile propertiesFile = this.createInPlace("first=12\nsecond=\"ab\"\n");
+
+        propertiesFile.setInteger("first", 34);
+        propertiesFile.setString("second", "cd");
+        assertEquals("first=34\nsecond=\"cd\"\n", this.read());
+        assertEquals(34, this.load().getInteger("first"));
+    }
+
+    @Test
+    public void appendsGrownValuesAndTombstonesRemovedKeys() throws IOException {
+        final PropertiesFile propertiesFile = this.createInPlace("first=1\r\nsecond=2\r\nthird=3\r\n");
+
+        propertiesFile.setInteger("first", 100);
+        propertiesFile.remove("second");
+        propertiesFile.setInteger("fourth", 4);
+        assertEquals("#~~~~~~\r\n#~~~~~~~\r\nthird=3\r\nfirst=100\r\nfourth=4\r\n", this.read());
+
+        final PropertiesFile reloaded = this.load();
+
+        assertEquals(100, reloaded.getInteger("first"));
+        assertFalse(reloaded.contains("second"));
+        assertEquals(3, reloaded.getInteger("third"));
+        assertEquals(4, reloaded.getInteger("fourth"));
+    }
+
+    @Test
+    public void compactsWastedSpaceInTheBackground() throws IOException, InterruptedException {
+        final PropertiesFile propertiesFile = this.createInPlace("first=1111111111\nsecond=2222222222\nthird=3\n");
+
+        propertiesFile.setInteger("first", 100);
+        propertiesFile.setInteger("second", 200);
+        assertEquals(Arrays.asList("third=3", "first=100", "second=200"), propertiesFile.getLines());
+        for(int i = 0; i < 100 && !this.read().equals("third=3\nfirst=100\nsecond=200\n"); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("third=3\nfirst=100\nsecond=200\n", this.read());
+        propertiesFile.setInteger("third", 4);
+        assertEquals("third=4\nfirst=100\nsecond=200\n", this.read());
+    }
+
+    @Test
+    public void compactsBeforePendingAsyncWrites() throws IOException {
+        Files.write(this.getPath(), "first=\"a long value\"\nsecond=1\n".getBytes(StandardCharsets.UTF_8));
+
+        final AsyncPropertiesFile propertiesFile = new AsyncPropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+
+        propertiesFile.setStandardWriteType(StandardWriteType.IN_PLACE);
+        propertiesFile.setString("first", "short");
+        propertiesFile.setStandardWriteType(StandardWriteType.REWRITE);
+        propertiesFile.setWriteDelay(60000);
+
+        final CompletableFuture<Void> future = propertiesFile.setIntegerAsync("second", 2);
+
+        propertiesFile.compact();
+        assertTrue(future.isDone());
+        propertiesFile.flush();
+        assertEquals("first=\"short\"\nsecond=2\n", this.read());
+        propertiesFile.close();
+    }
+
+    @Test
+    public void keepsTrailingSpacesOfUnpaddedValues() throws IOException {
+        final PropertiesFile propertiesFile = this.createInPlace("text=hello  \nquoted=\"a\"\n");
+
+        propertiesFile.setString("quoted", "b");
+        assertEquals("hello  ", propertiesFile.getValue("text"));
+        assertEquals("hello  ", this.load().getValue("text"));
+        assertEquals("hello  ", new MappedPropertiesFile(this.folder.getRoot().getPath() + "/", "test", KeyValueSeparator.EQUAL).load().getValue("text"));
+    }
+
+    @Test
+    public void stripsPaddingOfShortenedValues() throws IOException {
+        final PropertiesFile propertiesFile = this.createInPlace("string=\"a long value\"\nlist=[1, 2, 3]\n");
+
+        propertiesFile.setString("string", "short");
+        propertiesFile.setIntegerList("list", Collections.singletonList(1));
+        assertEquals("string=\"short\"       \nlist=[1]      \n", this.read());
+        assertEquals("short", this.load().getString("string"));
+        assertEquals("[1]", this.load().getValue("list"));
+        assertEquals("short", new MappedPropertiesFile(this.folder.getRoot().getPath() + "/", "test", KeyValueSeparator.EQUAL).load().getString("string"));
+    }
+
+    @Test
+    public void movesShortenedUndelimitedValues() throws IOException {
+        final PropertiesFile propertiesFile = this.createInPlace("number=12345\nother=1\n");
+
+        propertiesFile.setInteger("number", 7);
+        assertEquals("#~~~~~~~~~~~\nother=1\nnumber=7\n", this.read());
+        assertEquals(7, this.load().getInteger("number"));
+        assertEquals("7", this.load().getValue("number"));
+    }
+}
@@ -0,0 +1,119 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.StandardWriteType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PropertiesJournalTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+    }
+
+    private Path getPath(String extension) {
+        return this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION + extension);
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(this.getPath("")), StandardCharsets.UTF_8);
+    }
+
+    private PropertiesFile create(StandardWriteType standardWriteType) {
+        return new PropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).setStandardWriteType(standardWriteType).load();
+    }
+
+    private void writeUnflushedJournal() {
+        final PropertiesFile propertiesFile = this.create(StandardWriteType.JOURNAL);
+
+        propertiesFile.setInteger("first", 1);
+        propertiesFile.setString("second", "two");
+        propertiesFile.setIntegerList("third", Arrays.asList(3, 3));
+        propertiesFile.setInteger("first", 10);
+        propertiesFile.remove("second");
+    }
+
+    @Test
+    public void appendsWithoutRewritingTheFile() throws IOException {
+        this.writeUnflushedJournal();
+        assertEquals("", this.read());
+        assertTrue(Files.size(this.getPath(PropertiesJournal.FILE_EXTENSION)) > 0);
+    }
+
+    @Test
+    public void replaysTheJournalInJournalMode() throws IOException {
+        this.writeUnflushedJournal();
+
+        final PropertiesFile propertiesFile = this.create(StandardWriteType.JOURNAL);
+
+        assertEquals(10, propertiesFile.getInteger("first"));
+        assertFalse(propertiesFile.contains("second"));
+        assertEquals(Arrays.asList(3, 3), propertiesFile.getIntegerList("third"));
+        assertEquals("", this.read());
+        propertiesFile.close();
+        assertEquals("first=10\nthird=[3, 3]\n", this.read());
+        assertFalse(Files.exists(this.getPath(PropertiesJournal.FILE_EXTENSION)));
+    }
+
+    @Test
+    public void rewritesAfterReplayInRewriteMode() throws IOException {
+        this.writeUnflushedJournal();
+
+        final PropertiesFile propertiesFile = this.create(StandardWriteType.REWRITE);
+
+        assertEquals("first=10\nthird=[3, 3]\n", this.read());
+        assertFalse(Files.exists(this.getPath(PropertiesJournal.FILE_EXTENSION)));
+        assertEquals(10, propertiesFile.getInteger("first"));
+    }
+
+    @Test
+    public void finishesAnInterruptedCompaction() throws IOException {
+        this.writeUnflushedJournal();
+        Files.move(this.getPath(PropertiesJournal.FILE_EXTENSION), this.getPath(PropertiesJournal.FILE_EXTENSION + PropertiesJournal.COMPACTING_FILE_EXTENSION));
+
+        final PropertiesFile propertiesFile = this.create(StandardWriteType.JOURNAL);
+
+        assertEquals("first=10\nthird=[3, 3]\n", this.read());
+        assertFalse(Files.exists(this.getPath(PropertiesJournal.FILE_EXTENSION + PropertiesJournal.COMPACTING_FILE_EXTENSION)));
+        assertEquals(Arrays.asList(3, 3), propertiesFile.getIntegerList("third"));
+    }
+
+    @Test
+    public void compactsTheJournalInTheBackground() throws IOException, InterruptedException {
+        final PropertiesFile propertiesFile = this.create(StandardWriteType.JOURNAL).setJournalCompactionSize(64);
+
+        for(int i = 0; i < 100; i++) {
+            propertiesFile.setInteger("key" + (i % 10), i);
+        }
+        for(int i = 0; i < 100 && Files.exists(this.getPath(PropertiesJournal.FILE_EXTENSION + PropertiesJournal.COMPACTING_FILE_EXTENSION)); i++) {
+            Thread.sleep(10);
+        }
+        final PropertiesFile reloaded = this.create(StandardWriteType.JOURNAL);
+
+        assertTrue(this.read().startsWith("key0="));
+        for(int i = 0; i < 10; i++) {
+            assertEquals(90 + i, reloaded.getInteger("key" + i));
+        }
+        propertiesFile.close();
+    }
+}
@@ -0,0 +1,100 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.ValueType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PropertiesListSegmentTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+    }
+
+    private PropertiesFile create() {
+        return new PropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load().setListSegmentThreshold(4);
+    }
+
+    @Test
+    public void readsSegmentedListsAsArrays() {
+        final PropertiesFile propertiesFile = this.create();
+
+        propertiesFile.setIntegerList("integers", Arrays.asList(1, 2, 3, 4, 5));
+        propertiesFile.setDoubleList("doubles", Arrays.asList(0.5, 1.5, 2.5, 3.5));
+        assertTrue(PropertiesListSegment.isReference(propertiesFile.getValue("integers")));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, propertiesFile.getIntegerArray("integers"));
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5}, propertiesFile.getLongArray("integers"));
+        assertArrayEquals(new double[] {0.5, 1.5, 2.5, 3.5}, propertiesFile.getDoubleArray("doubles"), 0);
+
+        final int[] destination = new int[8];
+
+        assertEquals(5, propertiesFile.fillIntegerArray("integers", destination));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 0, 0, 0}, destination);
+    }
+
+    @Test
+    public void editorAppliesTheSegmentThreshold() {
+        final PropertiesFile propertiesFile = this.create();
+
+        propertiesFile.batch(editor -> editor.setIntegerList("large", Arrays.asList(1, 2, 3, 4, 5)).setIntegerList("small", Collections.singletonList(1)));
+        assertTrue(PropertiesListSegment.isReference(propertiesFile.getValue("large")));
+        assertEquals("[1]", propertiesFile.getValue("small"));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), propertiesFile.getIntegerList("large"));
+    }
+
+    @Test
+    public void editorWritesSegmentsOnlyOnCommit() {
+        final PropertiesFile propertiesFile = this.create();
+        final Path directory = this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION + PropertiesListSegment.DIRECTORY_EXTENSION);
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final PropertiesEditor editor = propertiesFile.edit().setIntegerList("large", list);
+
+        list.add(6);
+        assertFalse(Files.exists(directory));
+        editor.commit();
+        assertTrue(Files.isDirectory(directory));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), propertiesFile.getIntegerList("large"));
+
+        propertiesFile.edit().setIntegerList("abandoned", Arrays.asList(6, 7, 8, 9));
+        assertEquals(1, directory.toFile().list().length);
+    }
+
+    @Test
+    public void mappedReaderResolvesSegmentedLists() {
+        final PropertiesFile propertiesFile = this.create();
+
+        propertiesFile.setIntegerList("integers", Arrays.asList(1, 2, 3, 4, 5));
+        propertiesFile.setStringList("strings", Arrays.asList("a", "b, c", "d", "e"));
+        propertiesFile.flush();
+
+        final MappedPropertiesFile mappedPropertiesFile = new MappedPropertiesFile(this.folder.getRoot().getPath() + "/", "test", KeyValueSeparator.EQUAL).load();
+
+        assertEquals(ValueType.INTEGER_LIST, mappedPropertiesFile.typeOf("integers"));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), mappedPropertiesFile.getIntegerList("integers"));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, mappedPropertiesFile.getIntegerArray("integers"));
+        assertArrayEquals(new double[] {1, 2, 3, 4, 5}, mappedPropertiesFile.getDoubleArray("integers"), 0);
+        assertEquals(Arrays.asList("a", "b, c", "d", "e"), mappedPropertiesFile.getStringList("strings"));
+    }
+}
@@ -0,0 +1,82 @@
+package fr.paulscoding.propertiesdata.file;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PropertiesParserTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String content) throws IOException {
+        final Path path = this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION);
+
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static void parseSequential(Path path, List<String> lines, Map<String, PropertiesEntry> index, String separator) throws IOException {
+        try(BufferedReader bufferedReader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            for(String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine()) {
+                final PropertiesEntry entry = PropertiesEntry.parse(line, lines.size(), separator);
+
+                if(entry != null) {
+                    index.putIfAbsent(entry.getKey(), entry);
+                }
+                lines.add(line);
+            }
+        }
+    }
+
+    private static void assertSameParse(Path path, String separator) throws IOException {
+        final List<String> expectedLines = new ArrayList<>(), lines = new ArrayList<>();
+        final Map<String, PropertiesEntry> expectedIndex = new HashMap<>(), index = new HashMap<>();
+
+        parseSequential(path, expectedLines, expectedIndex, separator);
+        PropertiesParser.parseParallel(path, lines, index, separator);
+        assertEquals(expectedLines, lines);
+        assertEquals(expectedIndex.keySet(), index.keySet());
+        for(PropertiesEntry expected : expectedIndex.values()) {
+            final PropertiesEntry entry = index.get(expected.getKey());
+
+            assertEquals(expected.getKey(), expected.getValue(), entry.getValue());
+            assertEquals(expected.getKey(), expected.getLine(), entry.getLine());
+        }
+    }
+
+    @Test
+    public void parsesLargeFilesLikeTheSequentialParser() throws IOException {
+        final StringBuilder content = new StringBuilder();
+
+        for(int i = 0; content.length() < 3 * PropertiesParser.PARALLEL_THRESHOLD; i++) {
+            content.append("key").append(i % 50000).append(" = ").append(i % 3 == 0 ? "\"vàleur " + i + "\"" : String.valueOf(i));
+            content.append(i % 7 == 0 ? "\r\n" : "\n");
+            if(i % 1000 == 0) {
+                content.append("# comment ").append(i).append("\n\n");
+            }
+        }
+        assertTrue(content.length() >= PropertiesParser.PARALLEL_THRESHOLD);
+        assertSameParse(this.write(content.toString()), " = ");
+    }
+
+    @Test
+    public void parsesFilesWithoutTrailingNewline() throws IOException {
+        assertSameParse(this.write("a=1\r\nb=2\n\nc=3"), "=");
+        assertSameParse(this.write("a=1\na=2\n"), "=");
+        assertSameParse(this.write(""), "=");
+    }
+}
@@ -0,0 +1,86 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.ValueType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PropertiesSchemaTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+    }
+
+    private PropertiesFile load(String content) throws IOException {
+        Files.write(this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION), content.getBytes(StandardCharsets.UTF_8));
+        return new PropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, KeyValueSeparator.EQUAL).load();
+    }
+
+    @Test
+    public void detectsLongsOutsideTheIntegerRange() throws IOException {
+        final PropertiesFile propertiesFile = this.load("int=2147483647\nlong=2147483648\nnegative=-9223372036854775808\nhuge=9223372036854775808\n");
+
+        assertEquals(ValueType.INTEGER, propertiesFile.typeOf("int"));
+        assertEquals(ValueType.LONG, propertiesFile.typeOf("long"));
+        assertEquals(ValueType.LONG, propertiesFile.typeOf("negative"));
+        assertEquals(ValueType.DOUBLE, propertiesFile.typeOf("huge"));
+        assertTrue(propertiesFile.containsAs("int", long.class));
+        assertTrue(propertiesFile.containsAs("long", ValueType.DOUBLE));
+    }
+
+    @Test
+    public void detectsOnlyAsciiDigitsAsNumbers() throws IOException {
+        final PropertiesFile propertiesFile = this.load("arabic=\u0661\u0662\u0663\nfraction=1.\u0662\nlist=[1, \u0662]\nascii=123\n");
+
+        assertEquals(ValueType.UNKNOWN, propertiesFile.typeOf("arabic"));
+        assertEquals(ValueType.UNKNOWN, propertiesFile.typeOf("fraction"));
+        assertFalse(propertiesFile.containsAs("arabic", ValueType.INTEGER));
+        assertFalse(propertiesFile.containsAs("list", ValueType.INTEGER_LIST));
+        assertEquals(ValueType.INTEGER, propertiesFile.typeOf("ascii"));
+    }
+
+    @Test
+    public void readsLongSlotAboveIntegerMaxValue() throws IOException {
+        final PropertiesSchema.Builder builder = PropertiesSchema.builder();
+        final PropertiesSchema.LongSlot big = builder.longSlot("big", 0L);
+        final PropertiesSchema.LongSlot small = builder.longSlot("small", 0L);
+        final PropertiesSchema.LongSlot missing = builder.longSlot("missing", 42L);
+        final PropertiesRecord record = this.load("big=" + (Integer.MAX_VALUE + 1L) + "\nsmall=7\n").bind(builder.build());
+
+        assertEquals(Integer.MAX_VALUE + 1L, record.get(big));
+        assertEquals(7L, record.get(small));
+        assertEquals(42L, record.get(missing));
+    }
+
+    @Test
+    public void rejectsLongSlotWithMismatchedValue() throws IOException {
+        final PropertiesSchema.Builder builder = PropertiesSchema.builder();
+
+        builder.longSlot("big", 0L);
+        try {
+            this.load("big=\"text\"\n").bind(builder.build());
+            fail();
+        } catch(IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("LONG is declared"));
+        }
+    }
+}
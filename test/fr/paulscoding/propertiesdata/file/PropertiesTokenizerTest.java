@@ -0,0 +1,88 @@
+package fr.paulscoding.propertiesdata.file;
+
+import fr.paulscoding.propertiesdata.PropertiesData;
+import fr.paulscoding.propertiesdata.PropertiesLogger;
+import fr.paulscoding.propertiesdata.util.KeyValueSeparator;
+import fr.paulscoding.propertiesdata.util.StandardDirectoryCreationType;
+import fr.paulscoding.propertiesdata.util.StandardFileCreationType;
+import fr.paulscoding.propertiesdata.util.ValueType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PropertiesTokenizerTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        PropertiesData.setLogger(PropertiesLogger.NONE);
+    }
+
+    private PropertiesFile create(KeyValueSeparator keyValueSeparator) {
+        return new PropertiesFile(this.folder.getRoot().getPath() + "/", "test", StandardFileCreationType.ONLY_WANTED_FILE, StandardDirectoryCreationType.IGNORE, keyValueSeparator).load();
+    }
+
+    private PropertiesFile load(String content) throws IOException {
+        Files.write(this.folder.getRoot().toPath().resolve("test" + PropertiesFile.FILE_EXTENSION), content.getBytes(StandardCharsets.UTF_8));
+        return this.create(KeyValueSeparator.EQUAL);
+    }
+
+    @Test
+    public void roundTripsQuotesBackslashesAndSeparators() {
+        final List<String> list = Arrays.asList("plain", "a, b", "say \"hi\"", "x\", \"y", "C:\\dir", "end\\", "\\\"", "", "=", "a\\\\b");
+        final PropertiesFile propertiesFile = this.create(KeyValueSeparator.EQUAL);
+
+        propertiesFile.setStringList("list", list);
+        propertiesFile.setString("value", "a = \"b\"");
+        assertEquals(list, propertiesFile.getStringList("list"));
+        assertEquals(ValueType.STRING_LIST, propertiesFile.typeOf("list"));
+        assertEquals(list, this.create(KeyValueSeparator.EQUAL).getStringList("list"));
+        assertEquals("a = \"b\"", this.create(KeyValueSeparator.EQUAL).getString("value"));
+    }
+
+    @Test
+    public void readsUnescapedElementsLikeBefore() throws IOException {
+        final PropertiesFile propertiesFile = this.load("quotes=[\"a\"b\", \"c\"]\npath=[\"C:\\dir\", \"end\\\"]\nsplit=[\"a, b\", \"c\"]\nnumbers=[1, 2, 3]\n");
+
+        assertEquals(Arrays.asList("a\"b", "c"), propertiesFile.getStringList("quotes"));
+        assertEquals(Arrays.asList("C:\\dir", "end\\"), propertiesFile.getStringList("path"));
+        assertEquals(Arrays.asList("a, b", "c"), propertiesFile.getStringList("split"));
+        assertEquals(Arrays.asList(1, 2, 3), propertiesFile.getIntegerList("numbers"));
+    }
+
+    @Test
+    public void splitsElementsOutsideQuotes() {
+        final String value = "[\"a, b\", \"c\\\", d\", e]";
+        final int to = value.length() - 1;
+        final int first = PropertiesTokenizer.nextElementEnd(value, 1, to);
+        final int second = PropertiesTokenizer.nextElementEnd(value, first + 2, to);
+
+        assertEquals("\"a, b\"", value.substring(1, first));
+        assertEquals("\"c\\\", d\"", value.substring(first + 2, second));
+        assertEquals(3, PropertiesTokenizer.countElements(value, 1, to));
+        assertEquals(0, PropertiesTokenizer.countElements("[]", 1, 1));
+    }
+
+    @Test
+    public void findsMultiCharacterSeparators() {
+        assertEquals(3, PropertiesTokenizer.indexOfSeparator("key: value: other", ": "));
+        assertEquals(-1, PropertiesTokenizer.indexOfSeparator("key:value", ": "));
+        assertEquals(3, PropertiesTokenizer.indexOfSeparator("key=a=b", "="));
+
+        final PropertiesFile propertiesFile = this.create(KeyValueSeparator.DOUBLE_POINTS_SPACE);
+
+        propertiesFile.setString("key", "a: b");
+        assertEquals("a: b", this.create(KeyValueSeparator.DOUBLE_POINTS_SPACE).getString("key"));
+    }
+}